@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+#
+# Cold-start comparison of the plain uber jar and the fast-startup build (Spring AOT + AppCDS + lazy init).
+# For each launch it records the time until the first request is answered and the RSS at that moment.
+#
+#   ./mvnw -Pfast-startup -DskipTests package
+#   scripts/startup-benchmark.sh [runs]
+#
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-9091}
+URL="http://localhost:${PORT}/users/adults"
+TARGET="$(cd "$(dirname "$0")/../target" && pwd)"
+JAR=$(ls "$TARGET"/functional-programming-*.jar | head -n 1)
+FAST_DIR="$TARGET/fast-startup"
+
+if [[ ! -f "$FAST_DIR/application.jsa" ]]; then
+   echo "No CDS archive in $FAST_DIR, build it first with: ./mvnw -Pfast-startup -DskipTests package" >&2
+   exit 1
+fi
+
+now_ms() {
+   date +%s%3N
+}
+
+# Prints "<time to first request in ms> <rss in MB>" for one launch of the given command
+measure() {
+   local start pid elapsed rss
+   start=$(now_ms)
+   "$@" --server.port="$PORT" > /dev/null 2>&1 &
+   pid=$!
+   until curl -sf -o /dev/null "$URL"; do
+      if ! kill -0 "$pid" 2> /dev/null; then
+         echo "the application exited before answering" >&2
+         exit 1
+      fi
+      sleep 0.01
+   done
+   elapsed=$(( $(now_ms) - start ))
+   rss=$(awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$pid/status")
+   kill "$pid"
+   wait "$pid" 2> /dev/null || true
+   echo "$elapsed $rss"
+}
+
+# Runs a mode RUNS times and prints the averages
+bench() {
+   local name=$1
+   shift
+   local total_ms=0 total_rss=0 ms rss
+   for _ in $(seq "$RUNS"); do
+      read -r ms rss < <(measure "$@")
+      total_ms=$(( total_ms + ms ))
+      total_rss=$(awk -v a="$total_rss" -v b="$rss" 'BEGIN { print a + b }')
+   done
+   awk -v n="$name" -v t="$total_ms" -v r="$total_rss" -v runs="$RUNS" \
+      'BEGIN { printf "%-14s %12.0f %10.1f\n", n, t / runs, r / runs }'
+}
+
+printf "%-14s %12s %10s\n" "mode" "first req ms" "rss MB"
+bench plain java -jar "$JAR"
+bench fast-startup java -XX:SharedArchiveFile="$FAST_DIR/application.jsa" -Dspring.aot.enabled=true \
+   -Dspring.profiles.active=fast-startup -jar "$FAST_DIR/$(basename "$JAR")"
@@ -0,0 +1,69 @@
+package com.technologyos.functional.functions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The boxed FunctionGuide.applyMathInTheList against its primitive array versions.
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="FunctionGuideBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FunctionGuideBenchmark {
+
+   @Param({"100", "10000", "1000000"})
+   private int size;
+
+   private List<Integer> boxedItems;
+   private int[] items;
+   private int[] output;
+
+   @Setup
+   public void setUp() {
+      boxedItems = new ArrayList<>(size);
+      items = new int[size];
+      output = new int[size];
+      for (int i = 0; i < size; i++) {
+         boxedItems.add(i);
+         items[i] = i;
+      }
+   }
+
+   @Benchmark
+   public List<Integer> boxedList() {
+      return FunctionGuide.applyMathInTheList(boxedItems, x -> x * x);
+   }
+
+   @Benchmark
+   public int[] primitiveIntoOutput() {
+      return FunctionGuide.applyMathInTheArray(items, x -> x * x, output);
+   }
+
+   @Benchmark
+   public int[] primitiveInPlace() {
+      // x ^ 1 keeps the values bounded no matter how many times it runs over the same array
+      return FunctionGuide.applyMathInTheArray(items, x -> x ^ 1);
+   }
+
+   @Benchmark
+   public int[] primitiveParallel() {
+      return FunctionGuide.applyMathInTheArrayParallel(items, x -> x * x, output);
+   }
+}
@@ -0,0 +1,115 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.functions.ConsumerSupplierGuide.Account;
+import com.technologyos.functional.functions.ConsumerSupplierGuide.DataBaseExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent inserts and selects against the in-memory databases of ConsumerSupplierGuide.
+ *
+ * The thread count is a JMH option (-t), so main() runs the suite with 1 to 64 threads:
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="-t 16 InMemoryDatabaseExecutorBenchmark"
+ * or run main() from the IDE for the whole range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryDatabaseExecutorBenchmark {
+   private static final int KEYS = 100_000;
+   private static final int BATCH_SIZE = 100;
+
+   @Param({"concurrent", "globalLock"})
+   private String executor;
+
+   private DataBaseExecutor database;
+   private Account[] accounts;
+   private List<Account> accountList;
+
+   @Setup
+   public void setUp() {
+      database = "concurrent".equals(executor) ? new ConcurrentInMemoryDatabaseExecutor() : new GlobalLockExecutor();
+      accounts = new Account[KEYS];
+      for (int i = 0; i < KEYS; i++) {
+         accounts[i] = new Account("account-" + i, i);
+         database.insert(accounts[i]);
+      }
+      accountList = Arrays.asList(accounts);
+   }
+
+   @Benchmark
+   public void insert() {
+      database.insert(accounts[ThreadLocalRandom.current().nextInt(KEYS)]);
+   }
+
+   @Benchmark
+   public void insertAll() {
+      int from = ThreadLocalRandom.current().nextInt(KEYS - BATCH_SIZE);
+      database.insertAll(accountList.subList(from, from + BATCH_SIZE));
+   }
+
+   @Benchmark
+   public Account select() {
+      return database.select(accounts[ThreadLocalRandom.current().nextInt(KEYS)].id(), Account.class);
+   }
+
+   // 1 write every 10 operations
+   @Benchmark
+   public Account mixedReadWrite() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      Account account = accounts[random.nextInt(KEYS)];
+      if (random.nextInt(10) == 0) {
+         database.insert(account);
+         return account;
+      }
+      return database.select(account.id(), Account.class);
+   }
+
+   // The straightforward way to make the original HashMap executor thread-safe, used as the baseline
+   private static class GlobalLockExecutor implements DataBaseExecutor {
+      private final Map<String, Object> store = new HashMap<>();
+
+      @Override
+      public synchronized <T> void insert(T instance) {
+         if (instance instanceof Account account) {
+            store.put(account.id(), account);
+         }
+      }
+
+      @Override
+      public synchronized <T> T select(String id, Class<T> type) {
+         return type.cast(store.get(id));
+      }
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      for (int threads = 1; threads <= 64; threads *= 2) {
+         new Runner(new OptionsBuilder()
+            .include(InMemoryDatabaseExecutorBenchmark.class.getSimpleName())
+            .threads(threads)
+            .build()).run();
+      }
+   }
+}
@@ -0,0 +1,79 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.utils.logging.AsyncAppender;
+import com.technologyos.functional.utils.logging.LazyLogger;
+import com.technologyos.functional.utils.logging.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency a log call adds to the caller, with 4 threads logging at once: a println on a PrintStream
+ * (what the guides did) against {@link LazyLogger} on the async appender, plus the cost of a disabled
+ * message built eagerly against a Supplier. Both outputs discard the bytes so only the logging is measured.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="LoggingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+   private PrintStream console;
+   private LazyLogger logger;
+   private LazyLogger disabledLogger;
+   private int value = 42;
+
+   @Setup
+   public void setUp() {
+      console = new PrintStream(OutputStream.nullOutputStream(), true);
+      LazyLogger.setAppender(new AsyncAppender(OutputStream.nullOutputStream()));
+      logger = LazyLogger.getLogger(LoggingBenchmark.class);
+      disabledLogger = LazyLogger.getLogger("disabled");
+      disabledLogger.setLevel(Level.WARN);
+   }
+
+   @TearDown
+   public void tearDown() {
+      LazyLogger.appender().close();
+   }
+
+   @Benchmark
+   public void printStream() {
+      console.println("Processed value " + value);
+   }
+
+   @Benchmark
+   public void asyncLogger() {
+      logger.info(() -> "Processed value " + value);
+   }
+
+   @Benchmark
+   public String disabledEagerMessage() {
+      String message = "Processed value " + value;
+      disabledLogger.info(message);
+      return message;
+   }
+
+   @Benchmark
+   public void disabledSupplierMessage() {
+      disabledLogger.info(() -> "Processed value " + value);
+   }
+}
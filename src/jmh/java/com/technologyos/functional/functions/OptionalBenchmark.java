@@ -0,0 +1,117 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.utils.optional.Optionals;
+import com.technologyos.functional.utils.optional.PackedOptional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When does the JIT remove the Optionals of an {@link OptionalGuide} chain? Look at gc.alloc.rate.norm
+ * (bytes allocated per operation) in the -prof gc output:
+ *
+ * - jdkChainInlined: everything can inline, so escape analysis may scalar-replace the Optionals.
+ *   How many it removes depends on the JIT decisions (on JDK 17 we saw it remove only some of them).
+ * - jdkChainNotInlined: the Optional comes from a method that is not inlined, so it escapes and is allocated.
+ * - jdkChainEscaped: an intermediate Optional is stored in a field, it can't be removed either.
+ * - jdkChainWithoutEscapeAnalysis: the inlined chain again, run with -XX:-DoEscapeAnalysis as a reference.
+ * - fused: no Optional exists, so only the Strings of the result are allocated, whatever the JIT does.
+ * - jdkOptionalIntNotInlined / packedNotInlined: an OptionalInt returned by a method that is not inlined,
+ *   against the same value packed in a long (0 bytes).
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="OptionalBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptionalBenchmark {
+
+   private String name;
+   private int age;
+   private Optional<String> lastStep;
+
+   @Setup
+   public void setUp() {
+      name = "optional chaining";
+      age = 24;
+   }
+
+   @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+   private Optional<String> notInlinedName() {
+      return Optional.ofNullable(name);
+   }
+
+   @Benchmark
+   public String jdkChainInlined() {
+      return Optional.ofNullable(name)
+         .filter(n -> !n.isEmpty())
+         .map(String::toUpperCase)
+         .map(n -> n + "!")
+         .orElse("DEFAULT");
+   }
+
+   @Benchmark
+   public String jdkChainNotInlined() {
+      return notInlinedName()
+         .filter(n -> !n.isEmpty())
+         .map(String::toUpperCase)
+         .map(n -> n + "!")
+         .orElse("DEFAULT");
+   }
+
+   @Benchmark
+   public String jdkChainEscaped() {
+      lastStep = Optional.ofNullable(name).filter(n -> !n.isEmpty());
+      return lastStep
+         .map(String::toUpperCase)
+         .map(n -> n + "!")
+         .orElse("DEFAULT");
+   }
+
+   @Benchmark
+   @Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+   public String jdkChainWithoutEscapeAnalysis() {
+      return jdkChainInlined();
+   }
+
+   @Benchmark
+   public String fused() {
+      return Optionals.nullableFilterMapOrElse(name, n -> !n.isEmpty(), n -> n.toUpperCase() + "!", "DEFAULT");
+   }
+
+   @Benchmark
+   public int jdkOptionalIntNotInlined() {
+      OptionalInt maybeAge = notInlinedAge();
+      return maybeAge.isPresent() && maybeAge.getAsInt() >= 18 ? maybeAge.getAsInt() + 1 : -1;
+   }
+
+   @Benchmark
+   public int packedNotInlined() {
+      return PackedOptional.filterMapOrElse(notInlinedPackedAge(), a -> a >= 18, a -> a + 1, -1);
+   }
+
+   @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+   private OptionalInt notInlinedAge() {
+      return OptionalInt.of(age);
+   }
+
+   @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+   private long notInlinedPackedAge() {
+      return PackedOptional.ofInt(age);
+   }
+}
@@ -0,0 +1,90 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.functions.ConsumerSupplierGuide.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts persisted per second: one write and one fsync per account, then a database insert, against
+ * the {@link WriteBehindConsumer} group commit (flushed at the end of every invocation).
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="WriteBehindBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBehindBenchmark {
+   private static final int ACCOUNTS = 1_000;
+
+   private Path directory;
+   private Account[] accounts;
+   private FileChannel file;
+   private ConsumerSupplierGuide.DataBaseExecutor database;
+   private WriteBehindConsumer<Account> writeBehind;
+
+   @Setup(Level.Trial)
+   public void setUp() throws IOException {
+      directory = Files.createTempDirectory("write-behind");
+      accounts = new Account[ACCOUNTS];
+      for (int i = 0; i < ACCOUNTS; i++) {
+         accounts[i] = new Account("id-" + i, i * 1.5);
+      }
+      file = FileChannel.open(directory.resolve("sync.csv"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      database = new ConcurrentInMemoryDatabaseExecutor();
+      writeBehind = new WriteBehindConsumer<>(directory.resolve("async.csv"), ConsumerSupplierGuide::toFileLine, database);
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown() throws IOException {
+      writeBehind.close();
+      file.close();
+      try (var files = Files.list(directory)) {
+         for (Path path : files.toList()) {
+            Files.delete(path);
+         }
+      }
+      Files.delete(directory);
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(ACCOUNTS)
+   public void synchronousWrites() throws IOException {
+      for (Account account : accounts) {
+         file.write(ByteBuffer.wrap((ConsumerSupplierGuide.toFileLine(account) + '\n').getBytes(StandardCharsets.UTF_8)));
+         file.force(false);
+         database.insert(account);
+      }
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(ACCOUNTS)
+   public void writeBehind() {
+      for (Account account : accounts) {
+         writeBehind.accept(account);
+      }
+      writeBehind.flush();
+   }
+}
@@ -0,0 +1,64 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.models.CourseLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The split(":") pipeline of {@link Operators} against parsing into a {@link CourseCatalog},
+ * and a repeated "Avanzado names" query on each.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CourseCatalogBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CourseCatalogBenchmark {
+
+   @Param({"1000", "1000000"})
+   private int size;
+
+   private List<String> records;
+   private CourseCatalog catalog;
+
+   @Setup
+   public void setUp() {
+      records = IntStream.range(0, size)
+         .mapToObj(i -> "Course " + i + ":" + CourseLevel.values()[i % 3].label())
+         .toList();
+      catalog = CourseCatalog.of(records);
+   }
+
+   @Benchmark
+   public List<String> splitPipeline() {
+      return Operators.getNamesStream(Operators.filterAdvanceCourses(Operators.splitInformation(records.stream())))
+         .collect(Collectors.toList());
+   }
+
+   @Benchmark
+   public CourseCatalog buildCatalog() {
+      return CourseCatalog.of(records);
+   }
+
+   @Benchmark
+   public List<String> catalogLookup() {
+      return catalog.namesOf(CourseLevel.AVANZADO);
+   }
+}
@@ -0,0 +1,63 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The adults filter from {@link ImperativeAndDeclarative} written as a for loop
+ * against the same filter written as a (sequential or parallel) stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ImperativeAndDeclarativeBenchmark {
+
+   @Param({"10", "1000", "100000", "10000000"})
+   private int size;
+
+   private List<User> users;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(42);
+      users = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+         users.add(new User("user" + i, random.nextInt(40)));
+      }
+   }
+
+   @Benchmark
+   public List<User> imperative() {
+      return ImperativeAndDeclarative.getUsersWithAgeIsGreaterThanEighteenImperative(users);
+   }
+
+   @Benchmark
+   public List<User> declarative() {
+      return ImperativeAndDeclarative.getUsersWithAgeIsGreaterThanEighteenDeclarative(users);
+   }
+
+   @Benchmark
+   public List<User> declarativeParallel() {
+      return ImperativeAndDeclarative.streamUsersWithAgeIsGreaterThanEighteen(users.parallelStream())
+         .collect(Collectors.toList());
+   }
+}
@@ -0,0 +1,78 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.fundamentals.Partial.DBConfiguration;
+import com.technologyos.functional.fundamentals.Partial.DataBaseConnection;
+import com.technologyos.functional.fundamentals.Partial.FakeDataBaseConnection;
+import com.technologyos.functional.fundamentals.Partial.Query;
+import com.technologyos.functional.fundamentals.Partial.QueryResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The curried executor of Partial.ejemploDB, opening a connection per query against the pooled one.
+ * Connections are FakeDataBaseConnection, so the numbers show the cost of connecting and preparing, not of a database.
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PartialBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class PartialBenchmark {
+   private static final Duration CONNECT_LATENCY = Duration.ofMillis(1);
+   private static final Duration PREPARE_LATENCY = Duration.ofNanos(100_000); // 100 microseconds
+   private static final Query QUERY = new Query("SELECT * FROM accounts WHERE id = ?");
+
+   private final DBConfiguration configuration = new DBConfiguration("localhost", "admin", "1234", 5432);
+
+   private Function<Query, QueryResult> newConnectionExecutor;
+   private Function<Query, QueryResult> pooledExecutor;
+   private ConnectionPools pools;
+
+   @Setup
+   public void setUp() {
+      BiFunction<DBConfiguration, Query, QueryResult> biDB = (conf, query) ->
+         connect(conf).executeQuery(query);
+      newConnectionExecutor = Partial.curryBiFunction(biDB).apply(configuration);
+
+      pools = new ConnectionPools(PartialBenchmark::connect, 8, 100, Duration.ofSeconds(5));
+      pooledExecutor = pools.executorFor(configuration);
+   }
+
+   @TearDown
+   public void tearDown() {
+      System.out.println(pools.metrics(configuration));
+      pools.close();
+   }
+
+   private static DataBaseConnection connect(DBConfiguration conf) {
+      return new FakeDataBaseConnection(conf, CONNECT_LATENCY, PREPARE_LATENCY);
+   }
+
+   @Benchmark
+   public QueryResult newConnectionPerQuery() {
+      return newConnectionExecutor.apply(QUERY);
+   }
+
+   @Benchmark
+   public QueryResult pooledConnection() {
+      return pooledExecutor.apply(QUERY);
+   }
+}
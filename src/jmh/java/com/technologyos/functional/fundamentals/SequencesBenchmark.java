@@ -0,0 +1,56 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.utils.stream.Sequences;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Parallel sums over the counting sources of {@link StreamsAndIterables} and {@link StreamListeners}:
+ * a generated counter and an iterate() against the sized {@link Sequences}.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SequencesBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SequencesBenchmark {
+
+   @Param({"10000", "10000000"})
+   private int size;
+
+   @Benchmark
+   public long generatedCounter() {
+      AtomicInteger counter = new AtomicInteger();
+      return Stream.generate(counter::getAndIncrement).parallel().limit(size).mapToLong(i -> i).sum();
+   }
+
+   @Benchmark
+   public long iterateStep() {
+      return Stream.iterate(0, x -> x + 3).parallel().limit(size).mapToLong(i -> i).sum();
+   }
+
+   @Benchmark
+   public long sizedCounter() {
+      return Sequences.counting(0, size).parallel().asLongStream().sum();
+   }
+
+   @Benchmark
+   public long sizedStep() {
+      return Sequences.ints(0, 3, size).parallel().asLongStream().sum();
+   }
+}
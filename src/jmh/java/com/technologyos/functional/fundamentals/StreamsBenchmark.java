@@ -0,0 +1,210 @@
+package com.technologyos.functional.fundamentals;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Every idiom shown in {@link Streams}, measured over the same data so they can be compared.
+ * Each benchmark runs sequentially and in parallel for sizes from 10 up to 10M elements.
+ *
+ * Run with the GC profiler to get bytes/op next to ops/s:
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="StreamsBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StreamsBenchmark {
+
+   @Param({"10", "1000", "100000", "10000000"})
+   private int size;
+
+   @Param({"false", "true"})
+   private boolean parallel;
+
+   private List<Integer> numbers;
+   // Only odd or only even numbers, so anyEven and allEven have to visit every element
+   private List<Integer> odds;
+   private List<Integer> evens;
+   private List<String> names;
+   private List<List<String>> nested;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(42);
+      numbers = new ArrayList<>(size);
+      odds = new ArrayList<>(size);
+      evens = new ArrayList<>(size);
+      names = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+         int value = random.nextInt(size);
+         numbers.add(value);
+         odds.add(value | 1);
+         evens.add(value & ~1);
+         // 1 in 26 names starts with A, the letter Streams.startingWithA keeps
+         names.add((char) ('A' + value % 26) + "name" + value);
+      }
+
+      // Same names grouped in lists of 10, like the nested courses used in the guides
+      nested = new ArrayList<>(size / 10 + 1);
+      for (int from = 0; from < size; from += 10) {
+         nested.add(names.subList(from, Math.min(from + 10, size)));
+      }
+   }
+
+   private <T> Stream<T> streamOf(List<T> list) {
+      return parallel ? list.parallelStream() : list.stream();
+   }
+
+   // Intermediate operations are measured by consuming every element they emit. Not with count(): when the
+   // stream is SIZED it may return the size without running the stages
+   private static void consume(Stream<?> stream, Blackhole blackhole) {
+      stream.forEach(blackhole::consume);
+   }
+
+   @Benchmark
+   public void filter(Blackhole blackhole) {
+      consume(Streams.startingWithA(streamOf(names)), blackhole);
+   }
+
+   @Benchmark
+   public void map(Blackhole blackhole) {
+      consume(Streams.toUpperCase(streamOf(names)), blackhole);
+   }
+
+   @Benchmark
+   public void flatMap(Blackhole blackhole) {
+      consume(Streams.flattenToLowerCase(streamOf(nested)), blackhole);
+   }
+
+   @Benchmark
+   public void distinct(Blackhole blackhole) {
+      consume(Streams.distinct(streamOf(numbers)), blackhole);
+   }
+
+   @Benchmark
+   public void sorted(Blackhole blackhole) {
+      consume(Streams.sorted(streamOf(numbers)), blackhole);
+   }
+
+   @Benchmark
+   public void sortedWithComparator(Blackhole blackhole) {
+      consume(Streams.sortedReversed(streamOf(names)), blackhole);
+   }
+
+   @Benchmark
+   public void peek(Blackhole blackhole) {
+      consume(Streams.peekThenUpperCase(streamOf(names), blackhole::consume), blackhole);
+   }
+
+   @Benchmark
+   public void limit(Blackhole blackhole) {
+      consume(Streams.limit(streamOf(numbers), size / 2), blackhole);
+   }
+
+   @Benchmark
+   public void skip(Blackhole blackhole) {
+      consume(Streams.skip(streamOf(numbers), size / 2), blackhole);
+   }
+
+   @Benchmark
+   public void takeWhile(Blackhole blackhole) {
+      consume(Streams.takeWhileBelow(streamOf(numbers), size - size / 10), blackhole);
+   }
+
+   @Benchmark
+   public void dropWhile(Blackhole blackhole) {
+      consume(Streams.dropWhileBelow(streamOf(numbers), size - size / 10), blackhole);
+   }
+
+   @Benchmark
+   public void forEach(Blackhole blackhole) {
+      Streams.forEach(streamOf(numbers), blackhole::consume);
+   }
+
+   @Benchmark
+   public void forEachOrdered(Blackhole blackhole) {
+      Streams.forEachOrdered(streamOf(numbers), blackhole::consume);
+   }
+
+   @Benchmark
+   public String[] toArray() {
+      return Streams.toArray(streamOf(names));
+   }
+
+   @Benchmark
+   public int reduce() {
+      return Streams.sum(streamOf(numbers));
+   }
+
+   @Benchmark
+   public List<String> collect() {
+      return Streams.collectUpperCase(streamOf(names));
+   }
+
+   @Benchmark
+   public int min() {
+      return Streams.min(streamOf(numbers));
+   }
+
+   @Benchmark
+   public int max() {
+      return Streams.max(streamOf(numbers));
+   }
+
+   // The filter hides the size of the list, otherwise count() returns it without visiting any element
+   @Benchmark
+   public long count() {
+      return Streams.count(streamOf(numbers).filter(n -> true));
+   }
+
+   @Benchmark
+   public boolean anyMatch() {
+      return Streams.anyEven(streamOf(odds));
+   }
+
+   @Benchmark
+   public boolean allMatch() {
+      return Streams.allEven(streamOf(evens));
+   }
+
+   @Benchmark
+   public boolean noneMatch() {
+      return Streams.noneNegative(streamOf(numbers));
+   }
+
+   @Benchmark
+   public Optional<Integer> findFirst() {
+      return Streams.findFirst(streamOf(numbers).filter(n -> n == size - 1));
+   }
+
+   @Benchmark
+   public Optional<Integer> findAny() {
+      return Streams.findAny(streamOf(numbers).filter(n -> n == size - 1));
+   }
+
+   @Benchmark
+   public void iterateWithCondition(Blackhole blackhole) {
+      Stream<Integer> iterated = Streams.oddNumbersBelow(size);
+      consume(parallel ? iterated.parallel() : iterated, blackhole);
+   }
+}
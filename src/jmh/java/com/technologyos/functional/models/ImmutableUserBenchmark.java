@@ -0,0 +1,67 @@
+package com.technologyos.functional.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Reading and adding friends with the PersistentVector of {@link ImmutableUser} against the
+ * previous defensive LinkedList copy made on every friends() call.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ImmutableUserBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImmutableUserBenchmark {
+
+   @Param({"3", "100", "10000"})
+   private int friends;
+
+   private ImmutableUser user;
+   private List<String> friendList;
+
+   @Setup
+   public void setUp() {
+      friendList = IntStream.range(0, friends).mapToObj(i -> "friend-" + i).toList();
+      user = new ImmutableUser("Jose Armando", "28", "my_email@gmail.com", friendList);
+   }
+
+   @Benchmark
+   public int readFriendsDefensiveCopy() {
+      return new LinkedList<>(friendList).size();
+   }
+
+   @Benchmark
+   public int readFriendsPersistent() {
+      return user.friends().size();
+   }
+
+   @Benchmark
+   public int addFriendDefensiveCopy() {
+      List<String> copy = new LinkedList<>(friendList);
+      copy.add("Carmen");
+      return new LinkedList<>(copy).size();
+   }
+
+   @Benchmark
+   public ImmutableUser addFriendPersistent() {
+      return user.withFriend("Carmen");
+   }
+}
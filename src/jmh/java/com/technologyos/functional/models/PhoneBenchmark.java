@@ -0,0 +1,84 @@
+package com.technologyos.functional.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An import batch of 1000 phones in mixed formats:
+ * - splitAndCopy: the usual approach, strip the separators with a regex, cut the code with substring and
+ *   keep char[] copies of the parts (what the old fields held).
+ * - parsePacked: {@link Phone#parseAllPacked}, one long per phone.
+ * - parseAll: the same creating the Phones.
+ * - dedup: parseAll and a HashSet of the Phones, equals and hashCode only look at the packed long.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PhoneBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhoneBenchmark {
+   private static final String[] FORMATS = {"+52 55 %04d %04d", "+1 (555) %03d-%04d", "+34%04d%05d", "55%04d%04d"};
+
+   private List<String> batch;
+
+   @Setup
+   public void setUp() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      batch = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+         // about half the phones repeat, like the same contact imported twice
+         int subscriber = random.nextInt(500);
+         batch.add(String.format(FORMATS[i % FORMATS.length], subscriber % 1000, subscriber));
+      }
+   }
+
+   @Benchmark
+   public List<char[][]> splitAndCopy() {
+      List<char[][]> parsed = new ArrayList<>(batch.size());
+      for (String text : batch) {
+         String digits = text.replaceAll("[^0-9+]", "");
+         if (digits.startsWith("+")) {
+            int codeLength = digits.startsWith("+1") ? 1 : 2;
+            parsed.add(new char[][] {digits.substring(1, 1 + codeLength).toCharArray(),
+               digits.substring(1 + codeLength).toCharArray()});
+         } else {
+            parsed.add(new char[][] {new char[0], digits.toCharArray()});
+         }
+      }
+      return parsed;
+   }
+
+   @Benchmark
+   public long[] parsePacked() {
+      return Phone.parseAllPacked(batch);
+   }
+
+   @Benchmark
+   public Phone[] parseAll() {
+      return Phone.parseAll(batch);
+   }
+
+   @Benchmark
+   public int dedup() {
+      Set<Phone> unique = new HashSet<>(List.of(Phone.parseAll(batch)));
+      return unique.size();
+   }
+}
@@ -0,0 +1,69 @@
+package com.technologyos.functional.utils.io;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Counting the characters of a ~60 MB piped feed read with BufferedReader.lines() against
+ * the batches of {@link ChannelLineReader}, sequentially and in parallel.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ChannelLineReaderBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ChannelLineReaderBenchmark {
+
+   private byte[] feed;
+
+   @Setup
+   public void setUp() {
+      feed = IntStream.range(0, 1_000_000)
+         .mapToObj(i -> "2024-01-01T00:00:00Z,account-" + i + ",deposit,1500.00,MXN")
+         .collect(Collectors.joining("\n"))
+         .getBytes(StandardCharsets.UTF_8);
+   }
+
+   @Benchmark
+   public long bufferedReader() {
+      return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(feed), StandardCharsets.UTF_8))
+         .lines()
+         .mapToLong(String::length)
+         .sum();
+   }
+
+   @Benchmark
+   public long channelBatches() {
+      return ChannelLineReader.batches(Channels.newChannel(new ByteArrayInputStream(feed)))
+         .mapToLong(batch -> batch.stream().mapToLong(String::length).sum())
+         .sum();
+   }
+
+   @Benchmark
+   public long channelBatchesParallel() {
+      return ChannelLineReader.batches(Channels.newChannel(new ByteArrayInputStream(feed)))
+         .parallel()
+         .mapToLong(batch -> batch.stream().mapToLong(String::length).sum())
+         .sum();
+   }
+}
@@ -0,0 +1,89 @@
+package com.technologyos.functional.utils.ledger;
+
+import com.technologyos.functional.models.Account;
+import com.technologyos.functional.utils.builder.BuilderWithChaining;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Postings from 4 threads to random accounts:
+ * - rebuildAccount: every posting rebuilds the Account with BuilderWithChaining and CASes it in place
+ *   (an AtomicReferenceArray, so at least updates are not lost), what the model offers today.
+ * - ledgerPost: one posting to a {@link Ledger} slot.
+ * - ledgerTransfer: a transfer between two accounts as an atomic batch (2 postings per operation).
+ * - snapshot: a consistent copy of all the balances while nobody writes.
+ *
+ * With -prof gc, ledgerPost and ledgerTransfer allocate nothing. Throughput scales with the cores as long
+ * as there are many more accounts than threads: run with -t to change the threads.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="LedgerBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LedgerBenchmark {
+   private static final int ACCOUNTS = 10_000;
+
+   private Ledger ledger;
+   private AtomicReferenceArray<Account> accounts;
+
+   @State(Scope.Thread)
+   public static class ThreadBatch {
+      final Ledger.Batch batch = new Ledger.Batch();
+   }
+
+   @Setup
+   public void setUp() {
+      ledger = new Ledger(ACCOUNTS);
+      accounts = new AtomicReferenceArray<>(ACCOUNTS);
+      for (int i = 0; i < ACCOUNTS; i++) {
+         Account account = new BuilderWithChaining("account-" + i).withBalance(1_000_000).buildAccount();
+         ledger.open(account);
+         accounts.set(i, account);
+      }
+   }
+
+   @Benchmark
+   public Account rebuildAccount() {
+      int slot = ThreadLocalRandom.current().nextInt(ACCOUNTS);
+      long units = ThreadLocalRandom.current().nextBoolean() ? 100 : -100;
+      return accounts.updateAndGet(slot, account -> new BuilderWithChaining(account.getId())
+         .withBalance(account.getCurrentBalance() + units / 100.0)
+         .buildAccount());
+   }
+
+   @Benchmark
+   public void ledgerPost() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      ledger.post(random.nextInt(ACCOUNTS), random.nextBoolean() ? 100 : -100);
+   }
+
+   @Benchmark
+   public void ledgerTransfer(ThreadBatch state) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      ledger.apply(state.batch.clear().transfer(random.nextInt(ACCOUNTS), random.nextInt(ACCOUNTS), 100));
+   }
+
+   @Benchmark
+   @Threads(1)
+   public LedgerSnapshot snapshot() {
+      return ledger.snapshot();
+   }
+}
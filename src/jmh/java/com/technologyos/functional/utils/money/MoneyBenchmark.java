@@ -0,0 +1,77 @@
+package com.technologyos.functional.utils.money;
+
+import com.technologyos.functional.models.Money;
+import com.technologyos.functional.models.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Total price of a catalog: reduce(BigDecimal.ZERO, BigDecimal::add) over the prices as BigDecimal (what
+ * the model used to hold) against {@link MoneyCollectors} over the same prices as Money.
+ * gc.alloc.rate.norm shows a BigDecimal per element for the reduce and a few bytes per collect for Money.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="MoneyBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+   @Param({"1000000"})
+   private int size;
+
+   private List<BigDecimal> bigDecimalPrices;
+   private List<Product> products;
+
+   @Setup
+   public void setUp() {
+      products = LongStream.range(0, size)
+         .mapToObj(id -> new Product(id, "product-" + id, BigDecimal.valueOf(id % 100_000 + 99, 2)))
+         .toList();
+      bigDecimalPrices = products.stream()
+         .map(product -> product.getPrice().toBigDecimal())
+         .toList();
+   }
+
+   @Benchmark
+   public BigDecimal bigDecimalReduce() {
+      return bigDecimalPrices.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+   }
+
+   @Benchmark
+   public BigDecimal bigDecimalReduceParallel() {
+      return bigDecimalPrices.parallelStream().reduce(BigDecimal.ZERO, BigDecimal::add);
+   }
+
+   @Benchmark
+   public Money moneySum() {
+      return products.stream().collect(MoneyCollectors.summing(Product::getPrice));
+   }
+
+   @Benchmark
+   public Money moneySumParallel() {
+      return products.parallelStream().collect(MoneyCollectors.summing(Product::getPrice));
+   }
+
+   @Benchmark
+   public MoneyStatistics moneySummarizing() {
+      return products.stream().collect(MoneyCollectors.summarizing(Product::getPrice));
+   }
+}
@@ -0,0 +1,100 @@
+package com.technologyos.functional.utils.store;
+
+import com.technologyos.functional.models.Money;
+import com.technologyos.functional.models.Product;
+import com.technologyos.functional.utils.money.MoneyCollectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProductStore} against the same products in a HashMap on the heap:
+ * - storeGetById / heapGetById: lookup of a random id (the store builds the Product it returns)
+ * - storeTotalPrice / heapTotalPrice: sum of every price, a column scan against a walk over the objects
+ *
+ * What these numbers don't show is the cost of keeping the map: its products are live objects that every
+ * old generation collection has to trace, while the store is off the heap.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ProductStoreBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductStoreBenchmark {
+
+   @Param({"1000000"})
+   private int size;
+
+   private Path directory;
+   private ProductStore store;
+   private Map<Long, Product> heap;
+
+   @Setup
+   public void setUp() throws IOException {
+      directory = Files.createTempDirectory("product-store");
+      store = ProductStore.open(directory);
+      heap = new HashMap<>();
+      for (long id = 0; id < size; id++) {
+         Product product = new Product(id * 7, "product-" + id, BigDecimal.valueOf(id % 10_000 + 1, 2));
+         store.put(product);
+         heap.put(product.getProductId(), product);
+      }
+   }
+
+   @TearDown
+   public void tearDown() throws IOException {
+      store.close();
+      try (Stream<Path> files = Files.walk(directory)) {
+         for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+            Files.delete(file);
+         }
+      }
+   }
+
+   private long randomId() {
+      return ThreadLocalRandom.current().nextInt(size) * 7L;
+   }
+
+   @Benchmark
+   public Product storeGetById() {
+      return store.getById(randomId());
+   }
+
+   @Benchmark
+   public Product heapGetById() {
+      return heap.get(randomId());
+   }
+
+   @Benchmark
+   public Money storeTotalPrice() {
+      return store.totalPrice();
+   }
+
+   @Benchmark
+   public Money heapTotalPrice() {
+      return heap.values().stream().collect(MoneyCollectors.summing(Product::getPrice));
+   }
+}
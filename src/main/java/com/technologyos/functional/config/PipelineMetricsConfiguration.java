@@ -0,0 +1,41 @@
+package com.technologyos.functional.config;
+
+import com.technologyos.functional.utils.metrics.PipelineMetrics;
+import com.technologyos.functional.utils.metrics.StageMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the instrumented pipelines in the actuator: the /actuator/pipelines endpoint and the
+ * pipeline.stage.* meters of /actuator/metrics, tagged by pipeline and stage.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PipelineMetricsConfiguration {
+
+   @Bean
+   public PipelineMetrics pipelineMetrics() {
+      return PipelineMetrics.global();
+   }
+
+   @Bean
+   public PipelineMetricsEndpoint pipelineMetricsEndpoint(PipelineMetrics pipelineMetrics) {
+      return new PipelineMetricsEndpoint(pipelineMetrics);
+   }
+
+   @Bean
+   public MeterBinder pipelineMeterBinder(PipelineMetrics pipelineMetrics) {
+      return registry -> pipelineMetrics.onStage(stage -> {
+         Tags tags = Tags.of("pipeline", stage.pipeline(), "stage", stage.stage());
+         FunctionCounter.builder("pipeline.stage.in", stage, StageMetrics::in).tags(tags).register(registry);
+         FunctionCounter.builder("pipeline.stage.out", stage, StageMetrics::out).tags(tags).register(registry);
+         Gauge.builder("pipeline.stage.selectivity", stage, s -> s.snapshot().selectivity())
+            .tags(tags).register(registry);
+         Gauge.builder("pipeline.stage.average", stage, s -> s.snapshot().averageNanos())
+            .baseUnit("nanoseconds").tags(tags).register(registry);
+      });
+   }
+}
@@ -0,0 +1,31 @@
+package com.technologyos.functional.config;
+
+import com.technologyos.functional.utils.metrics.PipelineMetrics;
+import com.technologyos.functional.utils.metrics.StageStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+
+/**
+ * GET /actuator/pipelines lists every stage, GET /actuator/pipelines/{pipeline} the stages of one pipeline.
+ */
+@Endpoint(id = "pipelines")
+public class PipelineMetricsEndpoint {
+   private final PipelineMetrics pipelineMetrics;
+
+   public PipelineMetricsEndpoint(PipelineMetrics pipelineMetrics) {
+      this.pipelineMetrics = pipelineMetrics;
+   }
+
+   @ReadOperation
+   public List<StageStats> pipelines() {
+      return pipelineMetrics.snapshot();
+   }
+
+   @ReadOperation
+   public List<StageStats> pipeline(@Selector String pipeline) {
+      return pipelineMetrics.snapshot(pipeline);
+   }
+}
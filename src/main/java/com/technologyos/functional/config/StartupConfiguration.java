@@ -0,0 +1,23 @@
+package com.technologyos.functional.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+/**
+ * With spring.main.lazy-initialization every bean is created on first use, which moves the cost of the
+ * controllers to the first request. The web layer stays eager so the instance is ready when it takes traffic.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfiguration {
+
+   @Bean
+   public static LazyInitializationExcludeFilter eagerWebLayer() {
+      return (beanName, beanDefinition, beanType) ->
+         AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+            || AnnotatedElementUtils.hasAnnotation(beanType, ControllerAdvice.class);
+   }
+}
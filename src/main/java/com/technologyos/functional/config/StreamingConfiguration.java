@@ -0,0 +1,42 @@
+package com.technologyos.functional.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The threads that write the streaming responses (StreamingResponseBody) of PipelineController.
+ *
+ * Every stream holds its thread until the last record is written, so a slow client keeps one busy. The pool
+ * has a fixed number of threads and a bounded queue: when both are full the request is rejected with a 503
+ * (see BusinessExceptionHandler) instead of queueing without limit behind the default 8 threads.
+ * With the defaults that is about 96 concurrent streams, not thousands: Java 17 has no virtual threads.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StreamingConfiguration implements WebMvcConfigurer, DisposableBean {
+   private final ThreadPoolTaskExecutor streamingExecutor;
+
+   public StreamingConfiguration(@Value("${pipelines.streaming.threads:32}") int threads,
+                                 @Value("${pipelines.streaming.queue-capacity:64}") int queueCapacity) {
+      this.streamingExecutor = new ThreadPoolTaskExecutor();
+      this.streamingExecutor.setCorePoolSize(threads);
+      this.streamingExecutor.setMaxPoolSize(threads);
+      this.streamingExecutor.setQueueCapacity(queueCapacity);
+      this.streamingExecutor.setThreadNamePrefix("pipeline-stream-");
+      // Started here and not as a bean of its own, which lazy initialization would never create
+      this.streamingExecutor.initialize();
+   }
+
+   @Override
+   public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+      configurer.setTaskExecutor(streamingExecutor);
+   }
+
+   @Override
+   public void destroy() {
+      streamingExecutor.shutdown();
+   }
+}
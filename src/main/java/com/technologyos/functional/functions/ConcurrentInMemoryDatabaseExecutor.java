@@ -0,0 +1,74 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.functions.ConsumerSupplierGuide.Account;
+import com.technologyos.functional.functions.ConsumerSupplierGuide.DataBaseExecutor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe in-memory database.
+ *
+ * Every type gets its own partition (a ConcurrentHashMap from id to instance), so select(id, type)
+ * only ever sees instances of that type, and writers on different keys don't block each other:
+ * ConcurrentHashMap locks a single bin per write and reads take no lock at all.
+ *
+ * A type can be stored once we know how to get its id; Account is registered by default.
+ * Instances of unregistered types are ignored, as in InMemoryDatabaseExecutor.
+ */
+class ConcurrentInMemoryDatabaseExecutor implements DataBaseExecutor {
+   private final Map<Class<?>, Function<Object, String>> idExtractors = new ConcurrentHashMap<>();
+   private final Map<Class<?>, Map<String, Object>> partitions = new ConcurrentHashMap<>();
+
+   ConcurrentInMemoryDatabaseExecutor() {
+      register(Account.class, Account::id);
+   }
+
+   <T> void register(Class<T> type, Function<? super T, String> idExtractor) {
+      idExtractors.put(type, instance -> idExtractor.apply(type.cast(instance)));
+   }
+
+   @Override
+   public <T> void insert(T instance) {
+      Function<Object, String> idExtractor = idExtractors.get(instance.getClass());
+      if (idExtractor != null) {
+         partition(instance.getClass()).put(idExtractor.apply(instance), instance);
+      }
+   }
+
+   // Looks the partition up once per run of instances of the same type instead of once per instance
+   @Override
+   public <T> void insertAll(Collection<? extends T> instances) {
+      Class<?> currentType = null;
+      Function<Object, String> idExtractor = null;
+      Map<String, Object> partition = null;
+
+      for (T instance : instances) {
+         if (instance.getClass() != currentType) {
+            currentType = instance.getClass();
+            idExtractor = idExtractors.get(currentType);
+            partition = idExtractor == null ? null : partition(currentType);
+         }
+         if (partition != null) {
+            partition.put(idExtractor.apply(instance), instance);
+         }
+      }
+   }
+
+   @Override
+   public <T> T select(String id, Class<T> type) {
+      Map<String, Object> partition = partitions.get(type);
+      return partition == null ? null : type.cast(partition.get(id));
+   }
+
+   int size(Class<?> type) {
+      Map<String, Object> partition = partitions.get(type);
+      return partition == null ? 0 : partition.size();
+   }
+
+   private Map<String, Object> partition(Class<?> type) {
+      return partitions.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+   }
+}
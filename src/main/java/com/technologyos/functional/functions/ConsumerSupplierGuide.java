@@ -1,5 +1,13 @@
 package com.technologyos.functional.functions;
 
+import com.technologyos.functional.utils.logging.LazyLogger;
+import com.technologyos.functional.utils.supplier.PooledSupplier;
+import com.technologyos.functional.utils.supplier.RefreshingSupplier;
+import com.technologyos.functional.utils.supplier.Suppliers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -8,13 +16,17 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class ConsumerSupplierGuide {
+   private static final LazyLogger logger = LazyLogger.getLogger(ConsumerSupplierGuide.class);
+
+   // Built on the first lookup and shared after that, so every lookup sees the same stored data
+   private static final Supplier<DataBaseExecutor> DATABASE = Suppliers.memoize(ConcurrentInMemoryDatabaseExecutor::new);
 
    /**
     * A Consumer represents a function that takes a single input but returns no result.
     * The most common example is something like printing a value to the console.
     * In our example, we use it to store an account in a file and a database.
     */
-   private static void persistAccount(Account account) {
+   private static void persistAccount(Account account, Consumer<Account> writeBehind) {
       Consumer<Account> saveToFile = ConsumerSupplierGuide::saveToFile;
 
       Consumer<Account> saveToDatabase = request ->
@@ -24,6 +36,10 @@ public class ConsumerSupplierGuide {
       // It just knows it has to pass the account to *some* saving logic.
       saveAccountTo(account, saveToFile);
       saveAccountTo(account, saveToDatabase);
+
+      // Each of those consumers blocks on one write per account. The write-behind consumer
+      // (see accountWriteBehind) only queues the account, and saves it to the file and the database in batches.
+      saveAccountTo(account, writeBehind);
    }
 
    private static void saveAccountTo(Account account, Consumer<Account> saveAction) {
@@ -43,7 +59,8 @@ public class ConsumerSupplierGuide {
       // Supplies a random number
       Supplier<Double> numberSupplier = Math::random;
 
-      System.out.println(numberSupplier.get());
+      Double randomNumber = numberSupplier.get();
+      logger.info(() -> String.valueOf(randomNumber));
 
       // Supplies a database connection
       Supplier<Optional<DataBaseExecutor>> dbSupplier = ConsumerSupplierGuide::getDataBaseConnection;
@@ -54,6 +71,28 @@ public class ConsumerSupplierGuide {
             .map(db -> db.select(sId, Account.class))
             .orElse(null);
 
+      // Since the supplier is just a function, it can be wrapped to change *when* the value is built.
+      // Computed once: every get() returns the same database
+      Supplier<DataBaseExecutor> memoizedDb = Suppliers.memoize(ConcurrentInMemoryDatabaseExecutor::new);
+      boolean sameDb = memoizedDb.get() == memoizedDb.get();
+      logger.info(() -> "Memoized supplier returns the same database: " + sameDb); // true
+
+      // Refreshed in the background every 5 minutes: get() never waits after the first call
+      RefreshingSupplier<DataBaseExecutor> refreshingDb =
+         Suppliers.refreshing(ConcurrentInMemoryDatabaseExecutor::new, Duration.ofMinutes(5));
+      boolean sameUntilRefreshed = refreshingDb.get() == refreshingDb.get();
+      logger.info(() -> "Refreshing supplier returns the current database: " + sameUntilRefreshed); // true
+
+      // Taken from a pool of 4: the database is leased to this thread only while the function runs
+      try (PooledSupplier<DataBaseExecutor> pooledDb =
+              Suppliers.pooled(ConcurrentInMemoryDatabaseExecutor::new, 4, Duration.ofSeconds(1))) {
+         Account account = pooledDb.withObject(db -> {
+            db.insert(new Account("1", 250.0));
+            return db.select("1", Account.class);
+         });
+         logger.info(() -> "Account from a pooled database: " + account);
+      }
+
       //The main reason for using Suppliers is to decouple data retrieval logic
       //from the business logic that uses the data.
       //In functional programming, you often focus more on *how* to do something
@@ -63,30 +102,53 @@ public class ConsumerSupplierGuide {
 
    private static void saveToFile(Account account) {
       // Simulate file persistence logic
-      System.out.printf("Saving account to file: ID=%s, Balance=%.2f%n", account.id(), account.balance());
+      logger.info(() -> String.format("Saving account to file: ID=%s, Balance=%.2f", account.id(), account.balance()));
+   }
+
+   // "id,balance" with two decimals, without the cost of a format string on every account
+   static String toFileLine(Account account) {
+      long cents = Math.round(account.balance() * 100);
+      long absolute = Math.abs(cents);
+      long decimals = absolute % 100;
+      return account.id() + (cents < 0 ? ",-" : ",") + absolute / 100 + (decimals < 10 ? ".0" : ".") + decimals;
+   }
+
+   // Saves the accounts to the given file and the database in the background, flushed when the JVM shuts down
+   static WriteBehindConsumer<Account> accountWriteBehind(Path accountsFile) {
+      return new WriteBehindConsumer<Account>(
+         accountsFile, ConsumerSupplierGuide::toFileLine, getDataBaseConnection().orElseThrow()
+      ).closeOnShutdown();
    }
 
    private static Optional<DataBaseExecutor> getDataBaseConnection() {
       // In real scenarios, return a real implementation or use dependency injection
-      return Optional.of(new InMemoryDatabaseExecutor());
+      return Optional.of(DATABASE.get());
    }
 
-   private record Account(String id, double balance) {}
+   record Account(String id, double balance) {}
 
-   private interface DataBaseExecutor {
+   interface DataBaseExecutor {
       <T> void insert(T instance);
       <T> T select(String id, Class<T> type);
+
+      // Implementations can override it to store the whole batch at once
+      default <T> void insertAll(Collection<? extends T> instances) {
+         instances.forEach(this::insert);
+      }
    }
 
-   // Simple in-memory database implementation (for example/testing purposes)
-   private static class InMemoryDatabaseExecutor implements DataBaseExecutor {
+   /**
+    * Simple in-memory database implementation (for example/testing purposes).
+    * It is not thread-safe, see ConcurrentInMemoryDatabaseExecutor for concurrent use.
+    */
+   static class InMemoryDatabaseExecutor implements DataBaseExecutor {
       private final Map<String, Object> store = new HashMap<>();
 
       @Override
       public <T> void insert(T instance) {
          if (instance instanceof Account account) {
             store.put(account.id(), account);
-            System.out.println("Account stored in in-memory DB.");
+            logger.info("Account stored in in-memory DB.");
          }
       }
 
@@ -1,11 +1,30 @@
 package com.technologyos.functional.functions;
 
+import com.technologyos.functional.functions.text.TextOperation;
+import com.technologyos.functional.functions.text.TextTransformer;
+import com.technologyos.functional.utils.logging.LazyLogger;
+
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class FunctionGuide {
+   private static final LazyLogger logger = LazyLogger.getLogger(FunctionGuide.class);
+
+   // Below this size splitting the work between threads costs more than it saves
+   static final int PARALLEL_THRESHOLD = 1 << 14;
+
+   // Compiled once: trim, then uppercase and remove hyphens in the same pass
+   private static final Function<String, String> TRANSFORM_TEXT = TextTransformer.compile(List.of(
+      TextOperation.TRIM,
+      TextOperation.TO_UPPER_CASE,
+      TextOperation.remove('-')
+   ));
 
    /**
     * The Function interface works with generics:
@@ -36,8 +55,11 @@ public class FunctionGuide {
          }
       };
 
-      System.out.println(isEven.apply(2));    // true
-      System.out.println(isEven.apply(25));   // false
+      // The demo runs here; the logger only gets the results, so it runs even when INFO is off
+      Boolean twoIsEven = isEven.apply(2);          // true
+      Boolean twentyFiveIsEven = isEven.apply(25);  // false
+      logger.info(() -> String.valueOf(twoIsEven));
+      logger.info(() -> String.valueOf(twentyFiveIsEven));
    }
 
    /**
@@ -62,7 +84,8 @@ public class FunctionGuide {
       // Function to multiply a number by 5
       Function<Integer, Integer> multiplyBy5 = x -> x * 5;
 
-      System.out.println(multiplyBy5.apply(10)); // Outputs: 50
+      Integer fifty = multiplyBy5.apply(10);
+      logger.info(() -> String.valueOf(fifty)); // Outputs: 50
 
       // Higher-order function: returns another function
       Function<Integer, Function<Integer, Integer>> multiplyXByY = x -> y -> x * y;
@@ -70,8 +93,10 @@ public class FunctionGuide {
       // Apply the outer function to get an inner one
       Function<Integer, Integer> multiply2ByY = multiplyXByY.apply(2);
 
-      System.out.println(multiply2ByY.apply(7)); // Outputs: 14
-      System.out.println(multiplyXByY.apply(9).apply(8)); // Outputs: 72
+      Integer fourteen = multiply2ByY.apply(7);
+      Integer seventyTwo = multiplyXByY.apply(9).apply(8);
+      logger.info(() -> String.valueOf(fourteen)); // Outputs: 14
+      logger.info(() -> String.valueOf(seventyTwo)); // Outputs: 72
    }
 
    // Reusable function to check if a number is even
@@ -87,15 +112,17 @@ public class FunctionGuide {
     * 3. Remove hyphens
     */
    public static String transformText(String text) {
-      List<Function<String, String>> transformations = List.of(
-         String::trim,
-         String::toUpperCase,
-         s -> s.replace("-", "")
-      );
+      return TRANSFORM_TEXT.apply(text);
+   }
 
-      return transformations.stream()
-         .reduce(Function.identity(), Function::andThen)
-         .apply(text);
+   /**
+    * The same chain could be built with transformations.stream().reduce(Function.identity(), Function::andThen),
+    * but that creates a new String per step on every call.
+    * TextTransformer compiles the list once and runs the known operations in a single pass;
+    * any other Function in the list is still applied, as a regular step.
+    */
+   public static Function<String, String> compileTransformations(List<? extends Function<String, String>> transformations) {
+      return TextTransformer.compile(transformations);
    }
 
    /**
@@ -107,4 +134,84 @@ public class FunctionGuide {
          .map(operation)
          .collect(Collectors.toList());
    }
+
+   /**
+    * Primitive versions of applyMathInTheList.
+    * IntUnaryOperator, LongUnaryOperator and DoubleUnaryOperator work with int, long and double directly,
+    * so nothing is boxed and no list is created: the results are written in place
+    * or into an output array supplied (and reused) by the caller.
+    */
+   public static int[] applyMathInTheArray(int[] items, IntUnaryOperator operation) {
+      return applyMathInTheArray(items, operation, items);
+   }
+
+   public static int[] applyMathInTheArray(int[] items, IntUnaryOperator operation, int[] output) {
+      checkOutputSize(items.length, output.length);
+      for (int i = 0; i < items.length; i++) {
+         output[i] = operation.applyAsInt(items[i]);
+      }
+      return output;
+   }
+
+   public static long[] applyMathInTheArray(long[] items, LongUnaryOperator operation) {
+      return applyMathInTheArray(items, operation, items);
+   }
+
+   public static long[] applyMathInTheArray(long[] items, LongUnaryOperator operation, long[] output) {
+      checkOutputSize(items.length, output.length);
+      for (int i = 0; i < items.length; i++) {
+         output[i] = operation.applyAsLong(items[i]);
+      }
+      return output;
+   }
+
+   public static double[] applyMathInTheArray(double[] items, DoubleUnaryOperator operation) {
+      return applyMathInTheArray(items, operation, items);
+   }
+
+   public static double[] applyMathInTheArray(double[] items, DoubleUnaryOperator operation, double[] output) {
+      checkOutputSize(items.length, output.length);
+      for (int i = 0; i < items.length; i++) {
+         output[i] = operation.applyAsDouble(items[i]);
+      }
+      return output;
+   }
+
+   /**
+    * Same as applyMathInTheArray, but big arrays are split between the threads of the common ForkJoinPool.
+    * The operation must be pure (no shared state), since it runs concurrently.
+    * Output may be the same array as items to work in place.
+    */
+   public static int[] applyMathInTheArrayParallel(int[] items, IntUnaryOperator operation, int[] output) {
+      if (items.length < PARALLEL_THRESHOLD) {
+         return applyMathInTheArray(items, operation, output);
+      }
+      checkOutputSize(items.length, output.length);
+      IntStream.range(0, items.length).parallel().forEach(i -> output[i] = operation.applyAsInt(items[i]));
+      return output;
+   }
+
+   public static long[] applyMathInTheArrayParallel(long[] items, LongUnaryOperator operation, long[] output) {
+      if (items.length < PARALLEL_THRESHOLD) {
+         return applyMathInTheArray(items, operation, output);
+      }
+      checkOutputSize(items.length, output.length);
+      IntStream.range(0, items.length).parallel().forEach(i -> output[i] = operation.applyAsLong(items[i]));
+      return output;
+   }
+
+   public static double[] applyMathInTheArrayParallel(double[] items, DoubleUnaryOperator operation, double[] output) {
+      if (items.length < PARALLEL_THRESHOLD) {
+         return applyMathInTheArray(items, operation, output);
+      }
+      checkOutputSize(items.length, output.length);
+      IntStream.range(0, items.length).parallel().forEach(i -> output[i] = operation.applyAsDouble(items[i]));
+      return output;
+   }
+
+   private static void checkOutputSize(int inputSize, int outputSize) {
+      if (outputSize < inputSize) {
+         throw new IllegalArgumentException("Output array is smaller than the input: " + outputSize + " < " + inputSize);
+      }
+   }
 }
@@ -1,8 +1,9 @@
 package com.technologyos.functional.functions;
 
 import com.technologyos.functional.exceptions.EmptyValueException;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
+import com.technologyos.functional.utils.logging.LazyLogger;
+import com.technologyos.functional.utils.optional.Optionals;
+import com.technologyos.functional.utils.optional.PackedOptional;
 
 import java.util.Optional;
 
@@ -23,16 +24,19 @@ import java.util.Optional;
  * flatMap()	         Prevent nested Optional
  */
 public class OptionalGuide {
-   private static final Log logger = LogFactory.getLog(OptionalGuide.class);
+   // The messages are Suppliers: they are only built when INFO is enabled
+   private static final LazyLogger logger = LazyLogger.getLogger(OptionalGuide.class);
 
    public void optionalExamples() {
       // Create an empty Optional
       Optional<Object> empty = Optional.empty();
-      logger.info("Is value present? " + empty.isPresent()); // false
+      boolean isPresent = empty.isPresent();
+      logger.info(() -> "Is value present? " + isPresent); // false
 
       // Create a non-null Optional
       Optional<String> present = Optional.of("Java 8");
-      logger.info("Value from present Optional: " + present.get()); // "Java 8"
+      String value = present.get();
+      logger.info(() -> "Value from present Optional: " + value); // "Java 8"
 
       // Optional with a possibly-null value
       Optional<String> maybeName = Optional.ofNullable(buildName(20, "Jose"));
@@ -43,22 +47,22 @@ public class OptionalGuide {
 
       // Provide a fallback value if Optional is empty
       String finalName  = maybeName.orElse("Unknown");
-      logger.info("Fallback with orElse: " + finalName );
+      logger.info(() -> "Fallback with orElse: " + finalName );
 
       // Use a Supplier as a fallback (lazy evaluation)
-      finalName  = present.orElseGet(this::getDefaultName);
-      logger.info("Fallback with orElseGet: " + finalName );
+      String suppliedName  = present.orElseGet(this::getDefaultName);
+      logger.info(() -> "Fallback with orElseGet: " + suppliedName );
 
       // Use lambda as fallback
-      finalName  = present.orElseGet(() -> "Generated default");
-      logger.info("Lambda fallback: " + finalName );
+      String generatedName  = present.orElseGet(() -> "Generated default");
+      logger.info(() -> "Lambda fallback: " + generatedName );
 
       // Execute code if value is present
-      maybeName.ifPresent(System.out::println);
+      maybeName.ifPresent(logger::info);
 
       //ifPresentOrElse (Java 9+)
       safeName.ifPresentOrElse(
-         n -> logger.info("Present: " + n),
+         n -> logger.info(() -> "Present: " + n),
          () -> logger.info("Value is missing!")
       );
 
@@ -72,7 +76,8 @@ public class OptionalGuide {
       // flatMap: use when the mapper returns another Optional
       Optional<Optional<String>> nested = safeName.map(Optional::of);
       Optional<String> flattened = nested.flatMap(opt -> opt);
-      logger.info("Flattened value: " + flattened.orElse("empty"));
+      String flattenedValue = flattened.orElse("empty");
+      logger.info(() -> "Flattened value: " + flattenedValue);
 
       // Chaining multiple operations
       String processed = getOptionalName()
@@ -80,13 +85,25 @@ public class OptionalGuide {
          .map(String::toUpperCase)
          .map(n -> n + "!")
          .orElse("DEFAULT");
-      logger.info("Processed name: " + processed);
+      logger.info(() -> "Processed name: " + processed);
+
+      // The same chain fused in one call: no intermediate Optional is created on the way
+      String processedFused = Optionals.filterMapOrElse(getOptionalName(),
+         n -> !n.isEmpty(),
+         n -> n.toUpperCase() + "!",
+         "DEFAULT");
+      logger.info(() -> "Processed name (fused): " + processedFused);
+
+      // An optional int can be packed in a long, so it never allocates
+      long maybeAge = PackedOptional.ofInt(24);
+      int nextAdultAge = PackedOptional.filterMapOrElse(maybeAge, age -> age >= 18, age -> age + 1, -1);
+      logger.info(() -> "Next age of an adult: " + nextAdultAge);
 
       // GOOD: Optional chaining to transform safely
       String goodResult = getNameByAge(24)
          .map(name -> name.toLowerCase().trim())
          .orElse("No name available");
-      logger.info("Good usage: " + goodResult);
+      logger.info(() -> "Good usage: " + goodResult);
 
       // BAD: Manual null-checking, less readable and more error-prone
       String badResult = getNameTraditional(23);
@@ -95,7 +112,9 @@ public class OptionalGuide {
       } else {
          badResult = "No name available";
       }
-      logger.info("Bad usage: " + badResult);
+      // It isn't effectively final, so it also needs a copy before a lambda can capture it
+      String badUsage = badResult;
+      logger.info(() -> "Bad usage: " + badUsage);
    }
 
    private Optional<String> getNameByAge(int age) {
@@ -1,10 +1,16 @@
 package com.technologyos.functional.functions;
 
+import com.technologyos.functional.functions.validation.CharacterRule;
+import com.technologyos.functional.functions.validation.CharacterRule.CharClass;
+import com.technologyos.functional.functions.validation.CredentialValidator;
+import com.technologyos.functional.functions.validation.RuleFailures;
 import com.technologyos.functional.interfaces.Functional;
+import com.technologyos.functional.utils.logging.LazyLogger;
 
 import java.util.function.*;
 
 public class PredicateGuide {
+   private static final LazyLogger logger = LazyLogger.getLogger(PredicateGuide.class);
 
    /**
     * The predicate is a predefined functional interface in Java It helps with manageability of code,
@@ -28,9 +34,29 @@ public class PredicateGuide {
          .and(hasUpperCase);
 
       if (isValidPassword.test(password)) {
-         System.out.println("Password is valid.");
+         logger.info("Password is valid.");
       } else {
-         System.out.println("Password is invalid.");
+         logger.info("Password is invalid.");
+      }
+   }
+
+   /**
+    * Same rules as checkPassword, but compiled once.
+    * The chain above calls matches() twice (a new regex each time) and walks the password once per rule;
+    * the compiled validator checks the length first and then every character rule in a single pass.
+    */
+   private static final CredentialValidator PASSWORD_VALIDATOR = CredentialValidator.compile(
+      CharacterRule.notBlank(),
+      CharacterRule.minLength(8),
+      CharacterRule.contains(CharClass.DIGIT),
+      CharacterRule.contains(CharClass.UPPER_CASE)
+   );
+
+   private static void checkPasswordCompiled(String password) {
+      if (PASSWORD_VALIDATOR.test(password)) {
+         logger.info("Password is valid.");
+      } else {
+         logger.info("Password is invalid.");
       }
    }
 
@@ -40,6 +66,25 @@ public class PredicateGuide {
       return validatePassword.test(password);
    }
 
+   // The rules of validatePasswordSimplified, compiled once
+   private static final CredentialValidator SIMPLIFIED_PASSWORD_VALIDATOR = CredentialValidator.compile(
+      CharacterRule.notBlank(),
+      CharacterRule.minLength(9),
+      CharacterRule.only(CharClass.DIGIT),
+      CharacterRule.only(CharClass.UPPER_CASE)
+   );
+
+   private static boolean validatePasswordSimplifiedCompiled(String password){
+      return SIMPLIFIED_PASSWORD_VALIDATOR.test(password);
+   }
+
+   /**
+    * Validating a whole batch (e.g. a bulk import) returns, for every rule, which positions broke it.
+    */
+   public static RuleFailures validatePasswords(String[] passwords){
+      return PASSWORD_VALIDATOR.validateAll(passwords);
+   }
+
    private static void validations() {
       IntPredicate intPredicate;
       DoublePredicate doublePredicate;
@@ -56,50 +101,64 @@ public class PredicateGuide {
       Predicate<String> isBlank = s -> s.trim().isEmpty();
       Predicate<String> isNotBlank = isBlank.negate();
 
-      System.out.println(isNotBlank.test("  ")); // false
-      System.out.println(isNotBlank.test("Java")); // true
+      boolean spacesAreNotBlank = isNotBlank.test("  "); // false
+      boolean javaIsNotBlank = isNotBlank.test("Java"); // true
+      logger.info(() -> String.valueOf(spacesAreNotBlank));
+      logger.info(() -> String.valueOf(javaIsNotBlank));
 
       Predicate<String> endsWithPDF = s -> s.endsWith(".pdf");
       Predicate<String> endsWithDoc = s -> s.endsWith(".doc");
 
       Predicate<String> isDocument = endsWithPDF.or(endsWithDoc);
 
-      System.out.println(isDocument.test("resume.pdf")); // true
-      System.out.println(isDocument.test("notes.doc"));  // true
-      System.out.println(isDocument.test("image.png"));  // false
+      boolean pdfIsDocument = isDocument.test("resume.pdf"); // true
+      boolean docIsDocument = isDocument.test("notes.doc");  // true
+      boolean pngIsDocument = isDocument.test("image.png");  // false
+      logger.info(() -> String.valueOf(pdfIsDocument));
+      logger.info(() -> String.valueOf(docIsDocument));
+      logger.info(() -> String.valueOf(pngIsDocument));
 
       Predicate<String> hasLength = s -> s.length() >= 8;
       Predicate<String> containsAtSymbol = s -> s.contains("@");
 
       Predicate<String> validEmail = hasLength.and(containsAtSymbol);
 
-      System.out.println(validEmail.test("user@example.com")); // true
-      System.out.println(validEmail.test("user.com"));         // false
+      boolean withAtIsValid = validEmail.test("user@example.com"); // true
+      boolean withoutAtIsValid = validEmail.test("user.com");      // false
+      logger.info(() -> String.valueOf(withAtIsValid));
+      logger.info(() -> String.valueOf(withoutAtIsValid));
 
       Predicate<String> isAdmin = Predicate.isEqual("admin");
 
-      System.out.println(isAdmin.test("admin")); // true
-      System.out.println(isAdmin.test("user"));  // false
+      boolean adminIsAdmin = isAdmin.test("admin"); // true
+      boolean userIsAdmin = isAdmin.test("user");   // false
+      logger.info(() -> String.valueOf(adminIsAdmin));
+      logger.info(() -> String.valueOf(userIsAdmin));
    }
 
    private void validateNumbers(){
       Functional<Integer> validate = i -> i < 0;
-      System.out.println("Is Negative" + validate.isNegative(-1));
-      System.out.println("Is Negative" + validate.isNegative(10));
+      boolean minusOneIsNegative = validate.isNegative(-1);
+      boolean tenIsNegative = validate.isNegative(10);
+      logger.info(() -> "Is Negative" + minusOneIsNegative);
+      logger.info(() -> "Is Negative" + tenIsNegative);
 
       IntPredicate intPredicate = i -> i < 0;
-      System.out.println("Is Negative" + intPredicate.test(-1));
-      System.out.println("Is Negative" + intPredicate.test(10));
-
-      int x = 4;
-      System.out.println("Is" +x+ "even? "+ check(x,  n -> n % 2 == 0));
-      x = 7;
-      System.out.println("Is" +x+ "even? "+ check(x,  n -> n % 2 == 0));
-
-      String name = "Jose Armando";
-      System.out.println("Does" +name+ "start with A"+ check(name, s -> s.startsWith("A")));
-      name = "Armando";
-      System.out.println("Does" +name+ "start with A"+ check(name, s -> s.startsWith("A")));
+      boolean minusOneTestsNegative = intPredicate.test(-1);
+      boolean tenTestsNegative = intPredicate.test(10);
+      logger.info(() -> "Is Negative" + minusOneTestsNegative);
+      logger.info(() -> "Is Negative" + tenTestsNegative);
+
+      // A lambda can only capture effectively final variables, the loop gives one per value
+      for (int x : new int[]{4, 7}) {
+         boolean even = check(x, n -> n % 2 == 0);
+         logger.info(() -> "Is" +x+ "even? "+ even);
+      }
+
+      for (String name : new String[]{"Jose Armando", "Armando"}) {
+         boolean startsWithA = check(name, s -> s.startsWith("A"));
+         logger.info(() -> "Does" +name+ "start with A"+ startsWithA);
+      }
    }
 
    public static <T> boolean check(T t, Predicate<T> validation){
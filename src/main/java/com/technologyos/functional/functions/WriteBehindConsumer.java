@@ -0,0 +1,255 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.functions.ConsumerSupplierGuide.DataBaseExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A Consumer that persists in the background: accept() only queues the element, and a writer thread
+ * appends the queued elements to a file and inserts them in the database in batches.
+ *
+ * Every batch is one FileChannel write followed by one fsync (group commit), then one insertAll().
+ * A batch is written when it reaches batchSize or when its first element has waited maxLatency.
+ * The queue is bounded: when the writer can't keep up, accept() blocks instead of using more memory.
+ *
+ * flush() waits until everything accepted so far is persisted, close() flushes and stops the writer.
+ * The writer is a daemon thread, it doesn't keep the JVM alive: close the consumer, or register
+ * closeOnShutdown(), or whatever is still queued when the JVM exits is lost.
+ *
+ * Once a batch fails, every flush() throws the failure, and close() throws it one last time.
+ */
+final class WriteBehindConsumer<T> implements Consumer<T>, AutoCloseable {
+   public static final int DEFAULT_CAPACITY = 64 * 1024;
+   public static final int DEFAULT_BATCH_SIZE = 4096;
+   public static final Duration DEFAULT_MAX_LATENCY = Duration.ofMillis(10);
+
+   // While a flush() waits, the writer checks this often whether to stop filling the batch
+   private static final long FLUSH_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+   private final FileChannel file;
+   private final Function<? super T, String> lineFormatter;
+   private final DataBaseExecutor database;
+   private final BlockingQueue<T> queue;
+   private final int batchSize;
+   private final long maxLatencyNanos;
+   private final Thread writer;
+
+   private final AtomicLong accepted = new AtomicLong();
+   private final AtomicInteger flushWaiters = new AtomicInteger();
+   private final Object progress = new Object();
+   private long persisted;
+   private RuntimeException failure;
+   private volatile boolean closed;
+
+   WriteBehindConsumer(Path path, Function<? super T, String> lineFormatter, DataBaseExecutor database) {
+      this(path, lineFormatter, database, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_MAX_LATENCY);
+   }
+
+   /**
+    * @param lineFormatter the line written to the file for an element, without the line terminator
+    */
+   WriteBehindConsumer(Path path, Function<? super T, String> lineFormatter, DataBaseExecutor database,
+                       int capacity, int batchSize, Duration maxLatency) {
+      if (capacity <= 0 || batchSize <= 0 || maxLatency.isNegative() || maxLatency.isZero()) {
+         throw new IllegalArgumentException("Capacity, batch size and max latency must be positive");
+      }
+      try {
+         this.file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+      this.lineFormatter = lineFormatter;
+      this.database = database;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.batchSize = batchSize;
+      this.maxLatencyNanos = maxLatency.toNanos();
+
+      this.writer = new Thread(this::writeLoop, "write-behind-" + path.getFileName());
+      this.writer.setDaemon(true);
+      this.writer.start();
+   }
+
+   // Flushes and closes the consumer when the JVM shuts down
+   WriteBehindConsumer<T> closeOnShutdown() {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::close, "write-behind-shutdown"));
+      return this;
+   }
+
+   @Override
+   public void accept(T element) {
+      if (closed) {
+         throw new IllegalStateException("The consumer is closed");
+      }
+      accepted.incrementAndGet();
+      try {
+         queue.put(element);
+      } catch (InterruptedException e) {
+         accepted.decrementAndGet();
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for space in the queue", e);
+      }
+   }
+
+   // Waits until every element accepted before this call is in the file and the database, or a batch failed
+   public void flush() {
+      long target = accepted.get();
+      flushWaiters.incrementAndGet();
+      try {
+         synchronized (progress) {
+            while (persisted < target && failure == null) {
+               progress.wait();
+            }
+            throwFailure();
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while flushing", e);
+      } finally {
+         flushWaiters.decrementAndGet();
+      }
+   }
+
+   @Override
+   public void close() {
+      if (closed) {
+         return;
+      }
+      closed = true;
+      try {
+         writer.join();
+         // An accept() racing with close() may have queued after the writer stopped
+         List<T> batch = new ArrayList<>(batchSize);
+         ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+         while (queue.drainTo(batch, batchSize) > 0) {
+            buffer = writeBatch(batch, buffer);
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      } finally {
+         try {
+            file.close();
+         } catch (IOException e) {
+            throw new UncheckedIOException(e);
+         }
+      }
+      synchronized (progress) {
+         throwFailure();
+      }
+   }
+
+   // The failure stays, so every later flush() reports it too
+   private void throwFailure() {
+      if (failure != null) {
+         throw failure;
+      }
+   }
+
+   private void writeLoop() {
+      List<T> batch = new ArrayList<>(batchSize);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+      while (!closed || !queue.isEmpty()) {
+         try {
+            collectBatch(batch);
+         } catch (InterruptedException e) {
+            // Only close() stops the writer, so that nothing queued is lost
+         }
+         if (!batch.isEmpty()) {
+            buffer = writeBatch(batch, buffer);
+         }
+      }
+   }
+
+   private ByteBuffer writeBatch(List<T> batch, ByteBuffer buffer) {
+      try {
+         buffer = writeToFile(batch, buffer);
+         database.insertAll(batch);
+         synchronized (progress) {
+            persisted += batch.size();
+            progress.notifyAll();
+         }
+      } catch (IOException e) {
+         recordFailure(new UncheckedIOException(e));
+      } catch (RuntimeException e) {
+         recordFailure(e);
+      } finally {
+         batch.clear();
+      }
+      return buffer;
+   }
+
+   // Waits for a first element, then keeps adding until the batch is full, maxLatency has passed
+   // or someone is waiting in flush()
+   private void collectBatch(List<T> batch) throws InterruptedException {
+      T first = queue.poll(maxLatencyNanos, TimeUnit.NANOSECONDS);
+      if (first == null) {
+         return;
+      }
+      batch.add(first);
+      long deadline = System.nanoTime() + maxLatencyNanos;
+      while (batch.size() < batchSize) {
+         if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+            continue;
+         }
+         long remaining = deadline - System.nanoTime();
+         if (remaining <= 0 || closed || flushWaiters.get() > 0) {
+            break;
+         }
+         T next = queue.poll(Math.min(remaining, FLUSH_CHECK_NANOS), TimeUnit.NANOSECONDS);
+         if (next != null) {
+            batch.add(next);
+         }
+      }
+   }
+
+   private ByteBuffer writeToFile(List<T> batch, ByteBuffer buffer) throws IOException {
+      buffer.clear();
+      for (T element : batch) {
+         byte[] line = (lineFormatter.apply(element) + '\n').getBytes(StandardCharsets.UTF_8);
+         if (buffer.remaining() < line.length) {
+            buffer = grow(buffer, line.length);
+         }
+         buffer.put(line);
+      }
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+         file.write(buffer);
+      }
+      file.force(false);
+      return buffer;
+   }
+
+   private static ByteBuffer grow(ByteBuffer buffer, int needed) {
+      ByteBuffer bigger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + needed));
+      buffer.flip();
+      bigger.put(buffer);
+      return bigger;
+   }
+
+   // Wakes up the flush() calls, the elements of a failed batch never count as persisted
+   private void recordFailure(RuntimeException e) {
+      synchronized (progress) {
+         if (failure == null) {
+            failure = e;
+         } else {
+            failure.addSuppressed(e);
+         }
+         progress.notifyAll();
+      }
+   }
+}
@@ -0,0 +1,86 @@
+package com.technologyos.functional.functions.text;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A text transformation the {@link TextTransformer} knows how to fuse.
+ *
+ * It is still a plain UnaryOperator<String>, so it can be used anywhere a Function<String, String> is expected,
+ * but when it is compiled together with other operations no intermediate String is created.
+ */
+public final class TextOperation implements UnaryOperator<String> {
+
+   enum Kind { TRIM, UPPER_CASE, LOWER_CASE, REPLACE, REMOVE }
+
+   public static final TextOperation TRIM = new TextOperation(Kind.TRIM, '\0', '\0');
+
+   // Case changes use Locale.ROOT, so the result does not depend on the machine running the code
+   public static final TextOperation TO_UPPER_CASE = new TextOperation(Kind.UPPER_CASE, '\0', '\0');
+   public static final TextOperation TO_LOWER_CASE = new TextOperation(Kind.LOWER_CASE, '\0', '\0');
+
+   private final Kind kind;
+   private final char target;
+   private final char replacement;
+
+   private TextOperation(Kind kind, char target, char replacement) {
+      this.kind = kind;
+      this.target = target;
+      this.replacement = replacement;
+   }
+
+   // Same as s.replace(target, replacement)
+   public static TextOperation replace(char target, char replacement) {
+      return new TextOperation(Kind.REPLACE, target, replacement);
+   }
+
+   // Same as s.replace(String.valueOf(target), "")
+   public static TextOperation remove(char target) {
+      return new TextOperation(Kind.REMOVE, target, '\0');
+   }
+
+   Kind kind() {
+      return kind;
+   }
+
+   char target() {
+      return target;
+   }
+
+   char replacement() {
+      return replacement;
+   }
+
+   @Override
+   public String apply(String s) {
+      return switch (kind) {
+         case TRIM -> s.trim();
+         case UPPER_CASE -> s.toUpperCase(Locale.ROOT);
+         case LOWER_CASE -> s.toLowerCase(Locale.ROOT);
+         case REPLACE -> s.replace(target, replacement);
+         case REMOVE -> s.replace(String.valueOf(target), "");
+      };
+   }
+
+   @Override
+   public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof TextOperation that)) return false;
+      return kind == that.kind && target == that.target && replacement == that.replacement;
+   }
+
+   @Override
+   public int hashCode() {
+      return Objects.hash(kind, target, replacement);
+   }
+
+   @Override
+   public String toString() {
+      return switch (kind) {
+         case REPLACE -> "replace('" + target + "', '" + replacement + "')";
+         case REMOVE -> "remove('" + target + "')";
+         default -> kind.name().toLowerCase(Locale.ROOT);
+      };
+   }
+}
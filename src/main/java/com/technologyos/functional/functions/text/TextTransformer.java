@@ -0,0 +1,223 @@
+package com.technologyos.functional.functions.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A list of text transformations compiled once and reused for every input.
+ *
+ * Chaining with andThen creates a new String per step. Here, consecutive {@link TextOperation}s are fused:
+ * trims only move the start/end of the text, and the character operations (case changes, replace, remove)
+ * run together in a single pass over a reusable char buffer. Only the final String is allocated.
+ *
+ * Case changes take an ASCII fast path; if a stage meets a non-ASCII character it falls back to the
+ * String methods for that stage, so the result is always the same as applying the operations one by one.
+ * Any other Function<String, String> is kept as a fallback stage that receives and returns a String.
+ *
+ * A compiled transformer is immutable and can be shared between threads (each thread reuses its own buffers).
+ */
+public final class TextTransformer implements Function<String, String> {
+
+   private final List<Stage> stages;
+   private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+   private TextTransformer(List<Stage> stages) {
+      this.stages = stages;
+   }
+
+   public static TextTransformer compile(List<? extends Function<String, String>> transformations) {
+      List<Stage> stages = new ArrayList<>();
+      List<TextOperation> charOperations = new ArrayList<>();
+
+      for (Function<String, String> transformation : expand(transformations)) {
+         if (!(transformation instanceof TextOperation operation)) {
+            flushCharStage(stages, charOperations);
+            stages.add(new FallbackStage(transformation));
+         } else if (operation.kind() == TextOperation.Kind.TRIM) {
+            flushCharStage(stages, charOperations);
+            stages.add(new TrimStage());
+         } else {
+            charOperations.add(operation);
+         }
+      }
+      flushCharStage(stages, charOperations);
+
+      return new TextTransformer(List.copyOf(stages));
+   }
+
+   @Override
+   public String apply(String text) {
+      Workspace workspace = workspaces.get();
+      workspace.load(text);
+      for (Stage stage : stages) {
+         stage.run(workspace);
+      }
+      return workspace.result();
+   }
+
+   // Already compiled transformers are inlined, so composing them keeps everything fused
+   private static List<Function<String, String>> expand(List<? extends Function<String, String>> transformations) {
+      List<Function<String, String>> expanded = new ArrayList<>();
+      for (Function<String, String> transformation : transformations) {
+         if (transformation instanceof TextTransformer transformer) {
+            transformer.stages.forEach(stage -> expanded.addAll(stage.operations()));
+         } else {
+            expanded.add(transformation);
+         }
+      }
+      return expanded;
+   }
+
+   private static void flushCharStage(List<Stage> stages, List<TextOperation> charOperations) {
+      if (!charOperations.isEmpty()) {
+         stages.add(new CharStage(charOperations.toArray(new TextOperation[0])));
+         charOperations.clear();
+      }
+   }
+
+   /**
+    * The text being transformed lives in buffer[start, end).
+    * Stages that rewrite characters write into spare and then swap both arrays.
+    */
+   private static final class Workspace {
+      private char[] buffer = new char[64];
+      private char[] spare = new char[64];
+      private int start;
+      private int end;
+
+      void load(String text) {
+         int length = text.length();
+         if (buffer.length < length) {
+            buffer = new char[length];
+         }
+         text.getChars(0, length, buffer, 0);
+         start = 0;
+         end = length;
+      }
+
+      char[] spare(int capacity) {
+         if (spare.length < capacity) {
+            spare = new char[capacity];
+         }
+         return spare;
+      }
+
+      void swap(int newEnd) {
+         char[] previous = buffer;
+         buffer = spare;
+         spare = previous;
+         start = 0;
+         end = newEnd;
+      }
+
+      String result() {
+         return new String(buffer, start, end - start);
+      }
+   }
+
+   private interface Stage {
+      void run(Workspace workspace);
+
+      // The operations this stage was compiled from, used to inline it into another transformer
+      List<Function<String, String>> operations();
+   }
+
+   // Same rule as String.trim(): everything up to ' ' is removed from both ends
+   private static final class TrimStage implements Stage {
+      @Override
+      public void run(Workspace workspace) {
+         char[] buffer = workspace.buffer;
+         while (workspace.start < workspace.end && buffer[workspace.start] <= ' ') {
+            workspace.start++;
+         }
+         while (workspace.end > workspace.start && buffer[workspace.end - 1] <= ' ') {
+            workspace.end--;
+         }
+      }
+
+      @Override
+      public List<Function<String, String>> operations() {
+         return List.of(TextOperation.TRIM);
+      }
+   }
+
+   private static final class CharStage implements Stage {
+      private final TextOperation[] operations;
+
+      CharStage(TextOperation[] operations) {
+         this.operations = operations;
+      }
+
+      @Override
+      public void run(Workspace workspace) {
+         char[] source = workspace.buffer;
+         char[] target = workspace.spare(workspace.end - workspace.start);
+         int written = 0;
+
+         characters:
+         for (int i = workspace.start; i < workspace.end; i++) {
+            char c = source[i];
+            for (TextOperation operation : operations) {
+               switch (operation.kind()) {
+                  case UPPER_CASE -> {
+                     if (c >= 0x80) {
+                        runWithStrings(workspace);
+                        return;
+                     }
+                     if (c >= 'a' && c <= 'z') c -= 'a' - 'A';
+                  }
+                  case LOWER_CASE -> {
+                     if (c >= 0x80) {
+                        runWithStrings(workspace);
+                        return;
+                     }
+                     if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+                  }
+                  case REPLACE -> {
+                     if (c == operation.target()) c = operation.replacement();
+                  }
+                  case REMOVE -> {
+                     if (c == operation.target()) continue characters;
+                  }
+                  default -> throw new IllegalStateException("Not a character operation: " + operation);
+               }
+            }
+            target[written++] = c;
+         }
+         workspace.swap(written);
+      }
+
+      // Slow path for non-ASCII text: case changes may change the length (e.g. "ß" -> "SS")
+      private void runWithStrings(Workspace workspace) {
+         String text = workspace.result();
+         for (TextOperation operation : operations) {
+            text = operation.apply(text);
+         }
+         workspace.load(text);
+      }
+
+      @Override
+      public List<Function<String, String>> operations() {
+         return List.of(operations);
+      }
+   }
+
+   private static final class FallbackStage implements Stage {
+      private final Function<String, String> function;
+
+      FallbackStage(Function<String, String> function) {
+         this.function = function;
+      }
+
+      @Override
+      public void run(Workspace workspace) {
+         workspace.load(function.apply(workspace.result()));
+      }
+
+      @Override
+      public List<Function<String, String>> operations() {
+         return List.of(function);
+      }
+   }
+}
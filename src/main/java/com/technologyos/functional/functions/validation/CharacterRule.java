@@ -0,0 +1,127 @@
+package com.technologyos.functional.functions.validation;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A length or character-class rule the {@link CredentialValidator} knows how to compile.
+ *
+ * Every rule is also a plain Predicate<String>, so it can be tested alone or chained with and()/or(),
+ * but compiled together they are all checked in a single pass over the characters.
+ */
+public final class CharacterRule implements Predicate<String> {
+
+   /**
+    * ASCII character classes, the same ones as \d, [A-Z] and [a-z] in a regex.
+    * Characters outside ASCII don't belong to any class.
+    */
+   public enum CharClass {
+      DIGIT,
+      UPPER_CASE,
+      LOWER_CASE,
+      SPECIAL; // visible ASCII characters that are not letters or digits, e.g. !@#$
+
+      private static final int[] ASCII_MASKS = new int[128];
+
+      static {
+         for (char c = 0; c < 128; c++) {
+            int mask = 0;
+            if (c >= '0' && c <= '9') mask |= DIGIT.bit();
+            else if (c >= 'A' && c <= 'Z') mask |= UPPER_CASE.bit();
+            else if (c >= 'a' && c <= 'z') mask |= LOWER_CASE.bit();
+            else if (c > ' ' && c < 127) mask |= SPECIAL.bit();
+            ASCII_MASKS[c] = mask;
+         }
+      }
+
+      int bit() {
+         return 1 << ordinal();
+      }
+
+      // Bit mask with every class the character belongs to
+      static int maskOf(char c) {
+         return c < 128 ? ASCII_MASKS[c] : 0;
+      }
+   }
+
+   enum Kind { NOT_BLANK, MIN_LENGTH, MAX_LENGTH, CONTAINS, ONLY }
+
+   private final Kind kind;
+   private final int length;
+   private final CharClass charClass;
+
+   private CharacterRule(Kind kind, int length, CharClass charClass) {
+      this.kind = kind;
+      this.length = length;
+      this.charClass = charClass;
+   }
+
+   // Same as !s.trim().isEmpty()
+   public static CharacterRule notBlank() {
+      return new CharacterRule(Kind.NOT_BLANK, 0, null);
+   }
+
+   public static CharacterRule minLength(int length) {
+      return new CharacterRule(Kind.MIN_LENGTH, length, null);
+   }
+
+   public static CharacterRule maxLength(int length) {
+      return new CharacterRule(Kind.MAX_LENGTH, length, null);
+   }
+
+   // At least one character of the class, like s.matches(".*\\d.*")
+   public static CharacterRule contains(CharClass charClass) {
+      return new CharacterRule(Kind.CONTAINS, 0, Objects.requireNonNull(charClass));
+   }
+
+   // Every character of the class, like s.matches("\\d+") (an empty string passes, use notBlank for that)
+   public static CharacterRule only(CharClass charClass) {
+      return new CharacterRule(Kind.ONLY, 0, Objects.requireNonNull(charClass));
+   }
+
+   Kind kind() {
+      return kind;
+   }
+
+   int length() {
+      return length;
+   }
+
+   CharClass charClass() {
+      return charClass;
+   }
+
+   @Override
+   public boolean test(String s) {
+      return switch (kind) {
+         case NOT_BLANK -> !s.trim().isEmpty();
+         case MIN_LENGTH -> s.length() >= length;
+         case MAX_LENGTH -> s.length() <= length;
+         case CONTAINS -> s.chars().anyMatch(c -> (CharClass.maskOf((char) c) & charClass.bit()) != 0);
+         case ONLY -> s.chars().allMatch(c -> (CharClass.maskOf((char) c) & charClass.bit()) != 0);
+      };
+   }
+
+   @Override
+   public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof CharacterRule that)) return false;
+      return kind == that.kind && length == that.length && charClass == that.charClass;
+   }
+
+   @Override
+   public int hashCode() {
+      return Objects.hash(kind, length, charClass);
+   }
+
+   @Override
+   public String toString() {
+      return switch (kind) {
+         case NOT_BLANK -> "notBlank";
+         case MIN_LENGTH -> "minLength(" + length + ")";
+         case MAX_LENGTH -> "maxLength(" + length + ")";
+         case CONTAINS -> "contains(" + charClass + ")";
+         case ONLY -> "only(" + charClass + ")";
+      };
+   }
+}
@@ -0,0 +1,157 @@
+package com.technologyos.functional.functions.validation;
+
+import com.technologyos.functional.functions.validation.CharacterRule.CharClass;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A list of {@link CharacterRule}s compiled into a single Predicate<String>.
+ *
+ * Chaining predicates with and() (or using String.matches, which compiles a regex on every call)
+ * walks the string once per rule. Here the length rules are checked first, then one pass over the
+ * characters collects which classes were seen and which were broken, stopping as soon as the result is known.
+ */
+public final class CredentialValidator implements Predicate<String> {
+   private static final int MAX_RULES = Long.SIZE;
+
+   private final List<CharacterRule> rules;
+   private final int minLength;
+   private final int maxLength;
+   private final boolean notBlank;
+   private final int requiredClasses;
+   private final int onlyClasses;
+
+   private CredentialValidator(List<CharacterRule> rules) {
+      this.rules = rules;
+      int min = 0;
+      int max = Integer.MAX_VALUE;
+      boolean blank = false;
+      int required = 0;
+      int only = 0;
+      for (CharacterRule rule : rules) {
+         switch (rule.kind()) {
+            case NOT_BLANK -> blank = true;
+            case MIN_LENGTH -> min = Math.max(min, rule.length());
+            case MAX_LENGTH -> max = Math.min(max, rule.length());
+            case CONTAINS -> required |= rule.charClass().bit();
+            case ONLY -> only |= rule.charClass().bit();
+         }
+      }
+      this.minLength = min;
+      this.maxLength = max;
+      this.notBlank = blank;
+      this.requiredClasses = required;
+      this.onlyClasses = only;
+   }
+
+   public static CredentialValidator compile(List<CharacterRule> rules) {
+      if (rules.size() > MAX_RULES) {
+         throw new IllegalArgumentException("A validator supports up to " + MAX_RULES + " rules");
+      }
+      return new CredentialValidator(List.copyOf(rules));
+   }
+
+   public static CredentialValidator compile(CharacterRule... rules) {
+      return compile(List.of(rules));
+   }
+
+   public List<CharacterRule> rules() {
+      return rules;
+   }
+
+   @Override
+   public boolean test(String s) {
+      int length = s.length();
+      if (length < minLength || length > maxLength) {
+         return false;
+      }
+
+      boolean hasContent = !notBlank;
+      int seen = 0;
+      for (int i = 0; i < length; i++) {
+         char c = s.charAt(i);
+         int mask = CharClass.maskOf(c);
+         if ((onlyClasses & ~mask) != 0) {
+            return false;
+         }
+         seen |= mask;
+         hasContent |= c > ' ';
+         if (hasContent && onlyClasses == 0 && (seen & requiredClasses) == requiredClasses) {
+            return true;
+         }
+      }
+      return hasContent && (seen & requiredClasses) == requiredClasses;
+   }
+
+   /**
+    * Checks every rule for the given input.
+    * Bit i of the result is set when rules().get(i) is broken, so 0 means valid.
+    */
+   public long failures(String s) {
+      int length = s.length();
+      boolean hasContent = false;
+      int seen = 0;
+      int broken = 0; // classes for which at least one character was outside the class
+      for (int i = 0; i < length; i++) {
+         char c = s.charAt(i);
+         int mask = CharClass.maskOf(c);
+         seen |= mask;
+         broken |= ~mask;
+         hasContent |= c > ' ';
+      }
+
+      long failures = 0;
+      for (int i = 0; i < rules.size(); i++) {
+         CharacterRule rule = rules.get(i);
+         boolean failed = switch (rule.kind()) {
+            case NOT_BLANK -> !hasContent;
+            case MIN_LENGTH -> length < rule.length();
+            case MAX_LENGTH -> length > rule.length();
+            case CONTAINS -> (seen & rule.charClass().bit()) == 0;
+            case ONLY -> (broken & rule.charClass().bit()) != 0;
+         };
+         if (failed) {
+            failures |= 1L << i;
+         }
+      }
+      return failures;
+   }
+
+   public RuleFailures validateAll(String[] inputs) {
+      BitSet[] failures = newFailures();
+      for (int i = 0; i < inputs.length; i++) {
+         record(failures, i, failures(inputs[i]));
+      }
+      return new RuleFailures(rules, failures, inputs.length);
+   }
+
+   // Positions follow the encounter order of the stream
+   public RuleFailures validateAll(Stream<String> inputs) {
+      BitSet[] failures = newFailures();
+      int position = 0;
+      for (Iterator<String> iterator = inputs.iterator(); iterator.hasNext(); position++) {
+         record(failures, position, failures(iterator.next()));
+      }
+      return new RuleFailures(rules, failures, position);
+   }
+
+   private BitSet[] newFailures() {
+      BitSet[] failures = new BitSet[rules.size()];
+      for (int i = 0; i < failures.length; i++) {
+         failures[i] = new BitSet();
+      }
+      return failures;
+   }
+
+   private static void record(BitSet[] failures, int position, long failedRules) {
+      while (failedRules != 0) {
+         int rule = Long.numberOfTrailingZeros(failedRules);
+         failures[rule].set(position);
+         failedRules &= failedRules - 1;
+      }
+   }
+}
@@ -0,0 +1,31 @@
+package com.technologyos.functional.functions.validation;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Result of validating a batch: for every rule, the positions of the inputs that broke it.
+ */
+public record RuleFailures(List<CharacterRule> rules, BitSet[] failures, int size) {
+
+   public BitSet failuresOf(int ruleIndex) {
+      return (BitSet) failures[ruleIndex].clone();
+   }
+
+   public BitSet failuresOf(CharacterRule rule) {
+      int ruleIndex = rules.indexOf(rule);
+      if (ruleIndex < 0) {
+         throw new IllegalArgumentException("Rule " + rule + " is not part of this validation");
+      }
+      return failuresOf(ruleIndex);
+   }
+
+   // Positions of the inputs that broke at least one rule
+   public BitSet invalid() {
+      BitSet invalid = new BitSet(size);
+      for (BitSet ruleFailures : failures) {
+         invalid.or(ruleFailures);
+      }
+      return invalid;
+   }
+}
@@ -1,14 +1,19 @@
 package com.technologyos.functional.fundamentals;
 
+import com.technologyos.functional.utils.io.MappedLineReader;
+
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Composition {
    //Since functions are types, we can store them as variables (function objects).
@@ -20,13 +25,31 @@ public class Composition {
     */
    private static final Function<File, List<String>> LINES_FROM_FILE = Composition::getLinesFromFile;
 
+   /**
+    * Same contract as LINES_FROM_FILE, but the file is memory-mapped and scanned in parallel,
+    * and blank lines are already dropped before they become Strings.
+    * Meant for very big files; it can replace LINES_FROM_FILE in any of the compositions below.
+    */
+   private static final Function<File, List<String>> MAPPED_LINES_FROM_FILE = Composition::getLinesWithContentFromMappedFile;
+
    //This function filters a list of strings, removing empty or null lines.
    private static final Function<List<String>, List<String>> FILTER = list -> {
-      List<String> resultList = new LinkedList<>();
+      List<String> resultList = new ArrayList<>(list.size());
       list.forEach(line -> addIfNotEmpty(resultList, line));
       return resultList;
    };
 
+   /**
+    * Lazy counterparts of LINES_FROM_FILE and FILTER.
+    * Lines are read only when a terminal operation pulls them, so memory does not grow with the file,
+    * and short-circuiting operations (findFirst, limit, anyMatch...) stop reading early.
+    * The returned Stream holds the open file: close it (try-with-resources) when done.
+    */
+   private static final Function<File, Stream<String>> LINES_STREAM_FROM_FILE = Composition::getLinesStreamFromFile;
+
+   private static final Function<Stream<String>, Stream<String>> FILTER_STREAM = lines ->
+      lines.filter(Composition::hasContent);
+
    /**
     * Creates a composed function that:
     * 1. Converts the input string (a file path) into a File.
@@ -67,6 +90,17 @@ public class Composition {
          .apply(pathToFile);
    }
 
+   /**
+    * Same pipeline as getLinesWithContentUsingAndThen, with the memory-mapped reader in place of LINES_FROM_FILE.
+    * FILTER finds nothing left to remove, but shows that the reader plugs into the same composition.
+    */
+   static List<String> getLinesWithContentUsingMappedFile(String pathToFile) {
+      return CREATE_FILE
+         .andThen(MAPPED_LINES_FROM_FILE)
+         .andThen(FILTER)
+         .apply(pathToFile);
+   }
+
    //Equivalent step-by-step version using `andThen`.
    static List<String> stepByStepWithAndThen(String pathToFile) {
       Function<String, List<String>> createFileAndGetLines = CREATE_FILE.andThen(LINES_FROM_FILE);
@@ -74,6 +108,69 @@ public class Composition {
       return fullPipeline.apply(pathToFile);
    }
 
+   /**
+    * Streaming version of getLinesWithContentUsingCompose.
+    * The streaming versions also take the function that opens the lines, LINES_STREAM_FROM_FILE by default:
+    * closing the composed Stream closes the Stream it returned.
+    */
+   static Stream<String> streamLinesWithContentUsingCompose(String pathToFile) {
+      return streamLinesWithContentUsingCompose(pathToFile, LINES_STREAM_FROM_FILE);
+   }
+
+   static Stream<String> streamLinesWithContentUsingCompose(String pathToFile, Function<File, Stream<String>> linesFromFile) {
+      return FILTER_STREAM
+         .compose(linesFromFile)
+         .compose(CREATE_FILE)
+         .apply(pathToFile);
+   }
+
+   //Streaming version of stepByStepWithCompose.
+   static Stream<String> streamStepByStepWithCompose(String pathToFile) {
+      return streamStepByStepWithCompose(pathToFile, LINES_STREAM_FROM_FILE);
+   }
+
+   static Stream<String> streamStepByStepWithCompose(String pathToFile, Function<File, Stream<String>> linesFromFile) {
+      Function<String, Stream<String>> createFileAndGetLines = linesFromFile.compose(CREATE_FILE);
+      Function<String, Stream<String>> fullPipeline = FILTER_STREAM.compose(createFileAndGetLines);
+      return fullPipeline.apply(pathToFile);
+   }
+
+   //Streaming version of getLinesWithContentUsingAndThen.
+   static Stream<String> streamLinesWithContentUsingAndThen(String pathToFile) {
+      return streamLinesWithContentUsingAndThen(pathToFile, LINES_STREAM_FROM_FILE);
+   }
+
+   static Stream<String> streamLinesWithContentUsingAndThen(String pathToFile, Function<File, Stream<String>> linesFromFile) {
+      return CREATE_FILE
+         .andThen(linesFromFile)
+         .andThen(FILTER_STREAM)
+         .apply(pathToFile);
+   }
+
+   //Streaming version of stepByStepWithAndThen.
+   static Stream<String> streamStepByStepWithAndThen(String pathToFile) {
+      return streamStepByStepWithAndThen(pathToFile, LINES_STREAM_FROM_FILE);
+   }
+
+   static Stream<String> streamStepByStepWithAndThen(String pathToFile, Function<File, Stream<String>> linesFromFile) {
+      Function<String, Stream<String>> createFileAndGetLines = CREATE_FILE.andThen(linesFromFile);
+      Function<String, Stream<String>> fullPipeline = createFileAndGetLines.andThen(FILTER_STREAM);
+      return fullPipeline.apply(pathToFile);
+   }
+
+   /**
+    * Opens the file as a lazy Stream of lines.
+    * Unlike getLinesFromFile, a failure is not hidden behind an empty result:
+    * opening errors are thrown here and read errors while consuming, both as UncheckedIOException.
+    */
+   private static Stream<String> getLinesStreamFromFile(File file) {
+      try {
+         return Files.lines(file.toPath());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
    //Reads all lines from a file and returns them as a List of Strings.
    private static List<String> getLinesFromFile(File file) {
       try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
@@ -83,13 +180,32 @@ public class Composition {
       }
    }
 
+   //Reads only the lines with content, mapping the file in memory and scanning it in parallel.
+   private static List<String> getLinesWithContentFromMappedFile(File file) {
+      try {
+         return MappedLineReader.readLinesWithContent(file.toPath());
+      } catch (IOException e) {
+         return Collections.emptyList();
+      }
+   }
+
    //Adds the string to the list only if it is non-null, non-empty, and not just whitespace.
    private static void addIfNotEmpty(List<String> list, String s) {
-      if (s != null && !s.trim().isEmpty()) {
+      if (s != null && hasContent(s)) {
          list.add(s);
       }
    }
 
+   //Same as !s.trim().isEmpty(), without creating the trimmed copy.
+   private static boolean hasContent(String s) {
+      for (int i = 0; i < s.length(); i++) {
+         if (s.charAt(i) > ' ') {
+            return true;
+         }
+      }
+      return false;
+   }
+
    //Sample main method to run the composed function.
    public static void main(String[] args) {
       String pathToFile = "/path/to/file.txt";
@@ -97,5 +213,10 @@ public class Composition {
       List<String> contentLines = getLinesWithContentUsingCompose(pathToFile);
 
       contentLines.forEach(System.out::println);
+
+      // The streaming version must be closed to release the file
+      try (Stream<String> lines = streamLinesWithContentUsingAndThen(pathToFile)) {
+         lines.forEach(System.out::println);
+      }
    }
 }
@@ -0,0 +1,78 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.fundamentals.Partial.DBConfiguration;
+import com.technologyos.functional.fundamentals.Partial.DataBaseConnection;
+import com.technologyos.functional.fundamentals.Partial.PreparedQuery;
+import com.technologyos.functional.fundamentals.Partial.Query;
+import com.technologyos.functional.fundamentals.Partial.QueryResult;
+import com.technologyos.functional.utils.cache.BoundedCache;
+import com.technologyos.functional.utils.pool.ObjectPool;
+import com.technologyos.functional.utils.pool.PoolMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Connection pools behind the curried executors of {@link Partial}.
+ *
+ * executorFor(conf) is the partially applied Function<Query, QueryResult>, but instead of opening
+ * a new connection per query it borrows one from the pool of that configuration, and every pooled
+ * connection keeps a bounded cache of the queries it already prepared, keyed by the query text.
+ */
+class ConnectionPools implements AutoCloseable {
+   private final Function<DBConfiguration, ? extends DataBaseConnection> connector;
+   private final int maxConnections;
+   private final int preparedQueriesPerConnection;
+   private final Duration maxWait;
+   private final Map<DBConfiguration, ObjectPool<PooledConnection>> pools = new ConcurrentHashMap<>();
+
+   ConnectionPools(Function<DBConfiguration, ? extends DataBaseConnection> connector, int maxConnections,
+                   int preparedQueriesPerConnection, Duration maxWait) {
+      this.connector = connector;
+      this.maxConnections = maxConnections;
+      this.preparedQueriesPerConnection = preparedQueriesPerConnection;
+      this.maxWait = maxWait;
+   }
+
+   Function<Query, QueryResult> executorFor(DBConfiguration configuration) {
+      ObjectPool<PooledConnection> pool = poolFor(configuration);
+      return query -> pool.withObject(connection -> connection.execute(query));
+   }
+
+   PoolMetrics metrics(DBConfiguration configuration) {
+      return poolFor(configuration).metrics();
+   }
+
+   @Override
+   public void close() {
+      pools.values().forEach(ObjectPool::close);
+   }
+
+   private ObjectPool<PooledConnection> poolFor(DBConfiguration configuration) {
+      return pools.computeIfAbsent(configuration, conf -> new ObjectPool<>(
+         () -> new PooledConnection(connector.apply(conf), preparedQueriesPerConnection),
+         maxConnections, maxWait, PooledConnection::close));
+   }
+
+   // A connection plus the queries it prepared; only one thread uses it at a time
+   private static class PooledConnection {
+      private final DataBaseConnection connection;
+      private final BoundedCache<String, PreparedQuery> preparedQueries;
+
+      PooledConnection(DataBaseConnection connection, int preparedQueries) {
+         this.connection = connection;
+         this.preparedQueries = BoundedCache.ofMaximumSize(preparedQueries);
+      }
+
+      QueryResult execute(Query query) {
+         PreparedQuery prepared = preparedQueries.get(query.getText(), text -> connection.prepare(query));
+         return connection.execute(prepared);
+      }
+
+      void close() {
+         connection.close();
+      }
+   }
+}
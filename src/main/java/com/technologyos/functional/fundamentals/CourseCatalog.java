@@ -0,0 +1,122 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.models.Course;
+import com.technologyos.functional.models.CourseLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Course names indexed by level, built from "name:level" records such as "Spring:Introductorio".
+ *
+ * A record is parsed by looking for the ':' and matching the level in place, so the only object
+ * created per record is the name itself (no String[] from split, no regex, no level substring).
+ * Queries like "all Avanzado course names" are a lookup in the level index instead of a stream scan.
+ *
+ * Records without ':', with an empty name or with an unknown level are skipped. As with split(":"),
+ * the level ends at the next ':' if there is one.
+ */
+public final class CourseCatalog {
+   // An EnumMap is an array indexed by ordinal, so the lookup costs the same as an array
+   private final Map<CourseLevel, List<String>> namesByLevel;
+   private final long skipped;
+
+   private CourseCatalog(Map<CourseLevel, List<String>> namesByLevel, long skipped) {
+      this.namesByLevel = namesByLevel;
+      this.skipped = skipped;
+   }
+
+   /**
+    * Parses a single record, or returns null when it is not a valid "name:level" record.
+    * The catalog doesn't use it, to avoid creating a Course per record, but streaming consumers do.
+    */
+   public static Course parse(String record) {
+      int colon = record.indexOf(':');
+      CourseLevel level = levelOf(record, colon);
+      return level == null ? null : new Course(record.substring(0, colon), level);
+   }
+
+   // The level after the first ':', or null if there is no name or the level is unknown
+   private static CourseLevel levelOf(String record, int colon) {
+      if (colon <= 0) {
+         return null;
+      }
+      int end = record.indexOf(':', colon + 1);
+      return CourseLevel.fromLabel(record, colon + 1, end < 0 ? record.length() : end);
+   }
+
+   public static CourseCatalog of(Stream<String> records) {
+      return records.collect(collector());
+   }
+
+   public static CourseCatalog of(Iterable<String> records) {
+      Builder builder = new Builder();
+      records.forEach(builder::add);
+      return builder.build();
+   }
+
+   // Works with parallel streams: every thread fills its own builder and they are merged at the end
+   public static Collector<String, ?, CourseCatalog> collector() {
+      return Collector.of(Builder::new, Builder::add, Builder::merge, Builder::build);
+   }
+
+   public List<String> namesOf(CourseLevel level) {
+      return namesByLevel.get(level);
+   }
+
+   public int count(CourseLevel level) {
+      return namesByLevel.get(level).size();
+   }
+
+   public int size() {
+      int size = 0;
+      for (List<String> names : namesByLevel.values()) {
+         size += names.size();
+      }
+      return size;
+   }
+
+   // Records that were not valid "name:level" records
+   public long skipped() {
+      return skipped;
+   }
+
+   private static final class Builder {
+      private final Map<CourseLevel, List<String>> namesByLevel = newIndex();
+      private long skipped;
+
+      private static Map<CourseLevel, List<String>> newIndex() {
+         Map<CourseLevel, List<String>> index = new EnumMap<>(CourseLevel.class);
+         for (CourseLevel level : CourseLevel.values()) {
+            index.put(level, new ArrayList<>());
+         }
+         return index;
+      }
+
+      void add(String record) {
+         int colon = record.indexOf(':');
+         CourseLevel level = levelOf(record, colon);
+         if (level == null) {
+            skipped++;
+            return;
+         }
+         namesByLevel.get(level).add(record.substring(0, colon));
+      }
+
+      Builder merge(Builder other) {
+         namesByLevel.forEach((level, names) -> names.addAll(other.namesByLevel.get(level)));
+         skipped += other.skipped;
+         return this;
+      }
+
+      CourseCatalog build() {
+         namesByLevel.replaceAll((level, names) -> Collections.unmodifiableList(names));
+         return new CourseCatalog(namesByLevel, skipped);
+      }
+   }
+}
@@ -10,7 +10,7 @@ public class Currying {
     * This is like a TriFunction (which Java does not provide by default).
     */
    @FunctionalInterface
-   interface ThreeFunction<F, S, T, R> {
+   public interface ThreeFunction<F, S, T, R> {
       R apply(F first, S second, T third);
    }
 
@@ -50,6 +50,13 @@ public class Currying {
       // Or all at once (fully applied)
       String result3 = curriedFunction.apply(3).apply("Charlie").apply(65000.0);
       System.out.println(result3);
+
+      // If the function is pure, every stage can also be memoized so repeated arguments are not recomputed
+      Function<Integer, Function<String, Function<Double, String>>> memoizedCurried =
+         Memoizer.memoizeCurried(fullFunction, 1_000);
+      String result4 = memoizedCurried.apply(3).apply("Charlie").apply(65000.0); // computed
+      String result5 = memoizedCurried.apply(3).apply("Charlie").apply(65000.0); // from the cache
+      System.out.println(result4.equals(result5));
    }
 
    /**
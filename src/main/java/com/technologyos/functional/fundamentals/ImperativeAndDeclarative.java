@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ImperativeAndDeclarative {
 
@@ -15,12 +16,7 @@ public class ImperativeAndDeclarative {
       new User("Carol", 25));
 
    public static List<User> printUsersWithAgeIsGreaterThanEighteenImperativeMethod(){
-      List<User> newListOfUsers = new ArrayList<>();
-      for(User user: listOfUsers){
-         if(user.age() > 18){
-            newListOfUsers.add(user);
-         }
-      }
+      List<User> newListOfUsers = getUsersWithAgeIsGreaterThanEighteenImperative(listOfUsers);
 
       for(User user: newListOfUsers){
          System.out.println(user.age());
@@ -29,8 +25,27 @@ public class ImperativeAndDeclarative {
    }
 
    public static List<User> printUsersWithAgeIsGreaterThanEighteenDeclarativeMethod(){
-      return listOfUsers.stream()
-         .filter(user -> user.age() > 18)
+      return getUsersWithAgeIsGreaterThanEighteenDeclarative(listOfUsers);
+   }
+
+   // Same filter as above, but over any list of users so both styles can be compared with bigger inputs.
+   public static List<User> getUsersWithAgeIsGreaterThanEighteenImperative(List<User> users){
+      List<User> newListOfUsers = new ArrayList<>();
+      for(User user: users){
+         if(user.age() > 18){
+            newListOfUsers.add(user);
+         }
+      }
+      return newListOfUsers;
+   }
+
+   public static List<User> getUsersWithAgeIsGreaterThanEighteenDeclarative(List<User> users){
+      return streamUsersWithAgeIsGreaterThanEighteen(users.stream())
          .collect(Collectors.toList());
    }
+
+   // The same filter without the terminal operation, for consumers that handle each user as it comes
+   public static Stream<User> streamUsersWithAgeIsGreaterThanEighteen(Stream<User> users){
+      return users.filter(user -> user.age() > 18);
+   }
 }
@@ -0,0 +1,111 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.fundamentals.Currying.ThreeFunction;
+import com.technologyos.functional.utils.cache.BoundedCache;
+import com.technologyos.functional.utils.cache.CacheStats;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Memoization: remembering the result of a function for the arguments it was already called with.
+ *
+ * It is only safe for pure functions (see PureAndImpureFunction): the same arguments must always give
+ * the same result, and skipping the call must not skip any side effect.
+ *
+ * Results are kept in a {@link BoundedCache}, so memory is bounded and old entries are evicted.
+ * The memoized versions are still a Function / BiFunction / ThreeFunction, so they compose with
+ * andThen/compose and can be curried like any other function.
+ */
+public class Memoizer {
+
+   public interface MemoizedFunction<T, R> extends Function<T, R> {
+      CacheStats stats();
+   }
+
+   public interface MemoizedBiFunction<T, U, R> extends BiFunction<T, U, R> {
+      CacheStats stats();
+   }
+
+   public interface MemoizedThreeFunction<F, S, T, R> extends ThreeFunction<F, S, T, R> {
+      CacheStats stats();
+   }
+
+   // Keys for functions with more than one argument; records give us equals/hashCode and allow nulls
+   private record Pair(Object first, Object second) {}
+
+   private record Triple(Object first, Object second, Object third) {}
+
+   private Memoizer() {}
+
+   public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function, long maximumSize) {
+      return memoize(function, BoundedCache.ofMaximumSize(maximumSize));
+   }
+
+   // Use this one for a weight-bounded cache, e.g. BoundedCache.ofMaximumWeight(1_000_000, (k, v) -> v.length())
+   public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function, BoundedCache<T, R> cache) {
+      return new MemoizedFunction<>() {
+         @Override
+         public R apply(T argument) {
+            return cache.get(argument, function);
+         }
+
+         @Override
+         public CacheStats stats() {
+            return cache.stats();
+         }
+      };
+   }
+
+   public static <T, U, R> MemoizedBiFunction<T, U, R> memoize(BiFunction<T, U, R> function, long maximumSize) {
+      BoundedCache<Pair, R> cache = BoundedCache.ofMaximumSize(maximumSize);
+      return new MemoizedBiFunction<>() {
+         @Override
+         public R apply(T first, U second) {
+            return cache.get(new Pair(first, second), key -> function.apply(first, second));
+         }
+
+         @Override
+         public CacheStats stats() {
+            return cache.stats();
+         }
+      };
+   }
+
+   public static <F, S, T, R> MemoizedThreeFunction<F, S, T, R> memoize(ThreeFunction<F, S, T, R> function, long maximumSize) {
+      BoundedCache<Triple, R> cache = BoundedCache.ofMaximumSize(maximumSize);
+      return new MemoizedThreeFunction<>() {
+         @Override
+         public R apply(F first, S second, T third) {
+            return cache.get(new Triple(first, second, third), key -> function.apply(first, second, third));
+         }
+
+         @Override
+         public CacheStats stats() {
+            return cache.stats();
+         }
+      };
+   }
+
+   /**
+    * Like Partial.curryBiFunction, but every stage is memoized:
+    * applying the same first argument returns the same (cached) partially applied function,
+    * and the final results are cached for the (first, second) pair.
+    */
+   public static <F, S, R> Function<F, Function<S, R>> memoizeCurried(BiFunction<F, S, R> function, long maximumSize) {
+      MemoizedBiFunction<F, S, R> memoized = memoize(function, maximumSize);
+      return memoize((F f) -> (Function<S, R>) s -> memoized.apply(f, s), maximumSize);
+   }
+
+   /**
+    * Like Currying.curryThree, but every stage is memoized, so the partially applied functions
+    * are reused and the final results are cached for the whole (first, second, third) triple.
+    */
+   public static <F, S, T, R> Function<F, Function<S, Function<T, R>>> memoizeCurried(
+      ThreeFunction<F, S, T, R> function, long maximumSize) {
+      MemoizedThreeFunction<F, S, T, R> memoized = memoize(function, maximumSize);
+      MemoizedBiFunction<F, S, Function<T, R>> secondStage =
+         memoize((F f, S s) -> (Function<T, R>) t -> memoized.apply(f, s, t), maximumSize);
+      return memoize((F f) -> (Function<S, Function<T, R>>) s -> secondStage.apply(f, s), maximumSize);
+   }
+}
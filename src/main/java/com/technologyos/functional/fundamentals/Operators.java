@@ -1,5 +1,7 @@
 package com.technologyos.functional.fundamentals;
 
+import com.technologyos.functional.models.Course;
+import com.technologyos.functional.models.CourseLevel;
 import com.technologyos.functional.utils.Utils;
 
 import java.util.Collection;
@@ -84,6 +86,12 @@ public class Operators {
 
       // This would also work (another terminal operation example):
       // long totalAdvanceCourses = advanceCourseNamesStream.count();
+
+      /*
+       * Every query above splits every record again. When the same records are queried many times,
+       * parse them once into a catalog indexed by level and the query becomes a lookup.
+       */
+      List<String> advanceCourseNames = getAdvanceCourseNames(getCourses());
    }
 
    public static Stream<List<String>> getCourses() {
@@ -113,4 +121,23 @@ public class Operators {
    static Stream<String> getNamesStream(Stream<String[]> coursesData) {
       return coursesData.map(data -> data[0]);
    }
+
+   static CourseCatalog toCatalog(Stream<List<String>> courses) {
+      return CourseCatalog.of(flatMapCourses(courses));
+   }
+
+   static List<String> getAdvanceCourseNames(Stream<List<String>> courses) {
+      return toCatalog(courses).namesOf(CourseLevel.AVANZADO);
+   }
+
+   // Lazy: every course is parsed when the consumer asks for it, so it can be sent as soon as it is ready
+   public static Stream<Course> streamCourses(Stream<List<String>> courses) {
+      return flatMapCourses(courses)
+         .map(CourseCatalog::parse)
+         .filter(Objects::nonNull);
+   }
+
+   public static Stream<Course> streamCourses(Stream<List<String>> courses, CourseLevel level) {
+      return streamCourses(courses).filter(course -> course.level() == level);
+   }
 }
@@ -1,5 +1,8 @@
 package com.technologyos.functional.fundamentals;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -55,6 +58,22 @@ public class Partial {
       postgresExecutor.apply(new Query("SELECT ..."));
       postgresExecutor.apply(new Query("INSERT ..."));
       mariaDBExecutor.apply(new Query("UPDATE ..."));
+
+      /*
+       * Every call above still opens a new DataBaseConnection.
+       * With a ConnectionPools instance the partially applied executor keeps a pool of connections
+       * for its configuration, and each connection remembers the queries it already prepared.
+       */
+      try (ConnectionPools pools = new ConnectionPools(DataBaseConnection::new, 10, 100, Duration.ofSeconds(5))) {
+         Function<DBConfiguration, Function<Query, QueryResult>> pooledFunCreator = pools::executorFor;
+
+         Function<Query, QueryResult> pooledPostgresExecutor =
+            pooledFunCreator.apply(new DBConfiguration("localhost", "admin", "1234", 5432));
+
+         pooledPostgresExecutor.apply(new Query("SELECT ..."));
+         pooledPostgresExecutor.apply(new Query("SELECT ...")); // same connection, already prepared
+         System.out.println(pools.metrics(new DBConfiguration("localhost", "admin", "1234", 5432)));
+      }
    }
 
    // Generic curry function for BiFunction
@@ -66,10 +85,44 @@ public class Partial {
    static class QueryResult {}
 
    static class Query {
+      private String text;
+
       public Query() {}
-      public Query(String query) {}
+      public Query(String query) {
+         this.text = query;
+      }
+
+      public String getText() {
+         return text;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (!(o instanceof Query query)) return false;
+         return Objects.equals(text, query.text);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hashCode(text);
+      }
+   }
+
+   // A query already parsed and planned by the database, ready to be executed many times
+   static class PreparedQuery {
+      private final String text;
+
+      public PreparedQuery(String text) {
+         this.text = text;
+      }
+
+      public String getText() {
+         return text;
+      }
    }
 
+   // equals/hashCode let a configuration be used as the key of its connection pool
    static class DBConfiguration {
       private String host;
       private String user;
@@ -84,13 +137,58 @@ public class Partial {
          this.password = password;
          this.port = port;
       }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (!(o instanceof DBConfiguration that)) return false;
+         return port == that.port && Objects.equals(host, that.host)
+            && Objects.equals(user, that.user) && Objects.equals(password, that.password);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(host, user, password, port);
+      }
    }
 
-   static class DataBaseConnection {
+   static class DataBaseConnection implements AutoCloseable {
       public DataBaseConnection(DBConfiguration dbConfiguration) {}
 
       public QueryResult executeQuery(Query query) {
+         return execute(prepare(query));
+      }
+
+      public PreparedQuery prepare(Query query) {
+         return new PreparedQuery(query.getText());
+      }
+
+      public QueryResult execute(PreparedQuery query) {
          return new QueryResult();
       }
+
+      @Override
+      public void close() {}
+   }
+
+   /**
+    * An in-process connection that simulates the latency of a real database:
+    * opening the connection and preparing a query both take time, executing a prepared one is cheap.
+    * Useful to measure what pooling saves without running a database.
+    */
+   static class FakeDataBaseConnection extends DataBaseConnection {
+      private final Duration prepareLatency;
+
+      public FakeDataBaseConnection(DBConfiguration dbConfiguration, Duration connectLatency, Duration prepareLatency) {
+         super(dbConfiguration);
+         this.prepareLatency = prepareLatency;
+         LockSupport.parkNanos(connectLatency.toNanos());
+      }
+
+      @Override
+      public PreparedQuery prepare(Query query) {
+         LockSupport.parkNanos(prepareLatency.toNanos());
+         return super.prepare(query);
+      }
    }
 }
@@ -1,11 +1,11 @@
 package com.technologyos.functional.fundamentals;
 
 import com.technologyos.functional.utils.Utils;
+import com.technologyos.functional.utils.stream.Sequences;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class StreamListeners {
    static void listeners() {
@@ -33,8 +33,9 @@ public class StreamListeners {
        * There are different types of stream operations that accept different kinds of listeners.
        * For example: filtering data.
        */
-      AtomicInteger x = new AtomicInteger();
-      Stream<Integer> countingStream = Stream.generate(x::getAndIncrement);
+      // Counting like Stream.generate(counter::getAndIncrement) would, but sized and splittable,
+      // so it also scales in parallel (see Sequences)
+      Stream<Integer> countingStream = Sequences.counting(0, 1_000).boxed();
 
       // Filter only even numbers produced by the stream
       Stream<Integer> evens = countingStream.filter(i -> i % 2 == 0);
@@ -108,11 +109,28 @@ public class StreamListeners {
       Stream<Integer> customStep = Stream.iterate(0, numericOperator::operate);
       customStep.limit(10)
          .forEach(System.out::println); // 0, 3, 6, 9, ..., 27
+
+      /*
+       * iterate() needs the previous element to compute the next one, so it can't be split for parallel work.
+       * When the n-th element has a closed form, the same sequence can be computed from the index.
+       */
+      int sumOfSteps = Sequences.ints(0, NumericOperator.STEP, 10)
+         .parallel()
+         .sum(); // 0 + 3 + 6 + ... + 27 = 135
+
+      Stream<Integer> customStepByIndex = Sequences.iterate(10, numericOperator::nth);
    }
 
    static class NumericOperator {
+      static final int STEP = 3;
+
       public int operate(int x) {
-         return x + 3;
+         return x + STEP;
+      }
+
+      // operate() applied n times to 0
+      public int nth(long n) {
+         return (int) (n * STEP);
       }
    }
 }
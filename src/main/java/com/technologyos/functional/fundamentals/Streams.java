@@ -1,9 +1,12 @@
 package com.technologyos.functional.fundamentals;
 
+import com.technologyos.functional.utils.metrics.InstrumentedStream;
+
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,181 +67,269 @@ import java.util.stream.Stream;
 public class Streams {
 
    //the pipeline
+   //The stage counters and timings end up in /actuator/pipelines instead of the console
    public long getTemps(){
       List<Double> temps = Arrays.asList(98.4, 100.2, 87.9, 102.8);
-      return temps.stream()
-         .peek(System.out::println)
-         .filter(temp -> temp > 100)
-         .peek(System.out::println)
+      return InstrumentedStream.of("temps", temps.stream())
+         .filter("above-100", temp -> temp > 100)
+         .stream()
          .count();
    }
 
+   // Every example below prints the result of a pipeline method that takes its source as a parameter,
+   // so the same pipelines can be run over big data (see StreamsBenchmark)
+
    // 1. filter
    public void exampleFilter() {
       List<String> names = List.of("Armando", "Jaime", "Amanda");
-      names.stream()
-         .filter(name -> name.startsWith("A"))
-         .forEach(System.out::println); // Armando, Amanda
+      startingWithA(names.stream()).forEach(System.out::println); // Armando, Amanda
+   }
+
+   static Stream<String> startingWithA(Stream<String> names) {
+      return names.filter(name -> name.startsWith("A"));
    }
 
    // 2. map
    public void exampleMap() {
       List<String> names = List.of("Armando", "Miriam");
-      names.stream()
-         .map(String::toUpperCase)
-         .forEach(System.out::println); // ARMANDO, MIRIAM
+      toUpperCase(names.stream()).forEach(System.out::println); // ARMANDO, MIRIAM
+   }
+
+   static Stream<String> toUpperCase(Stream<String> names) {
+      return names.map(String::toUpperCase);
    }
 
    // 3. flatMap
    public void exampleFlatMap() {
       List<List<String>> nested = List.of(List.of("A", "B"), List.of("C"));
-      nested.stream()
+      flattenToLowerCase(nested.stream()).forEach(System.out::println); // a, b, c
+   }
+
+   static Stream<String> flattenToLowerCase(Stream<List<String>> nested) {
+      return nested
          .flatMap(List::stream)
-         .map(String::toLowerCase)
-         .forEach(System.out::println); // a, b, c
+         .map(String::toLowerCase);
    }
 
    // 4. distinct
    public void exampleDistinct() {
       List<Integer> numbers = List.of(1, 2, 2, 3, 1);
-      numbers.stream()
-         .distinct()
-         .forEach(System.out::println); // 1, 2, 3
+      distinct(numbers.stream()).forEach(System.out::println); // 1, 2, 3
+   }
+
+   static <T> Stream<T> distinct(Stream<T> elements) {
+      return elements.distinct();
    }
 
    // 5. sorted
    public void exampleSorted() {
       List<Integer> nums = List.of(5, 3, 1, 4);
-      nums.stream()
-         .sorted()
-         .forEach(System.out::println); // 1, 3, 4, 5
+      sorted(nums.stream()).forEach(System.out::println); // 1, 3, 4, 5
+   }
+
+   static <T extends Comparable<? super T>> Stream<T> sorted(Stream<T> elements) {
+      return elements.sorted();
    }
 
    // 6. sorted with comparator
    public void exampleSortedWithComparator() {
       List<String> names = List.of("Zoe", "Anna", "Bob");
-      names.stream()
-         .sorted(Comparator.reverseOrder())
-         .forEach(System.out::println); // Zoe, Bob, Anna
+      sortedReversed(names.stream()).forEach(System.out::println); // Zoe, Bob, Anna
+   }
+
+   static <T extends Comparable<? super T>> Stream<T> sortedReversed(Stream<T> elements) {
+      return elements.sorted(Comparator.reverseOrder());
    }
 
    // 7. peek
+   // Handy while debugging, but printing from a hot pipeline serializes it on the console lock.
+   // An instrumented stage counts and times the elements instead (see getTemps).
    public void examplePeek() {
       List<String> names = List.of("John", "Jane");
-      names.stream()
-         .peek(name -> System.out.println("Processing: " + name))
-         .map(String::toUpperCase)
+      peekThenUpperCase(names.stream(), name -> System.out.println("Processing: " + name))
+         .forEach(System.out::println);
+
+      InstrumentedStream.of("names", names.stream())
+         .map("upper-case", String::toUpperCase)
+         .stream()
          .forEach(System.out::println);
    }
 
+   static Stream<String> peekThenUpperCase(Stream<String> names, Consumer<String> action) {
+      return names
+         .peek(action)
+         .map(String::toUpperCase);
+   }
+
    // 8. limit
    public void exampleLimit() {
-      Stream.iterate(1, n -> n + 1)
-         .limit(5)
-         .forEach(System.out::println); // 1 to 5
+      limit(Stream.iterate(1, n -> n + 1), 5).forEach(System.out::println); // 1 to 5
+   }
+
+   static <T> Stream<T> limit(Stream<T> elements, long maxSize) {
+      return elements.limit(maxSize);
    }
 
    // 9. skip
    public void exampleSkip() {
-      Stream.of(1, 2, 3, 4, 5)
-         .skip(2)
-         .forEach(System.out::println); // 3, 4, 5
+      skip(Stream.of(1, 2, 3, 4, 5), 2).forEach(System.out::println); // 3, 4, 5
+   }
+
+   static <T> Stream<T> skip(Stream<T> elements, long n) {
+      return elements.skip(n);
    }
 
    // 10. takeWhile (Java 9+)
    public void exampleTakeWhile() {
-      Stream.of(1, 2, 3, 6, 2)
-         .takeWhile(n -> n < 5)
-         .forEach(System.out::println); // 1, 2, 3
+      takeWhileBelow(Stream.of(1, 2, 3, 6, 2), 5).forEach(System.out::println); // 1, 2, 3
+   }
+
+   static Stream<Integer> takeWhileBelow(Stream<Integer> numbers, int bound) {
+      return numbers.takeWhile(n -> n < bound);
    }
 
    // 11. dropWhile (Java 9+)
    public void exampleDropWhile() {
-      Stream.of(1, 2, 3, 6, 2)
-         .dropWhile(n -> n < 5)
-         .forEach(System.out::println); // 6, 2
+      dropWhileBelow(Stream.of(1, 2, 3, 6, 2), 5).forEach(System.out::println); // 6, 2
+   }
+
+   static Stream<Integer> dropWhileBelow(Stream<Integer> numbers, int bound) {
+      return numbers.dropWhile(n -> n < bound);
    }
 
    //TERMINAL OPERATIONS
    // 12. forEach
    public void exampleForEach() {
-      List.of("Java", "Python", "Go").forEach(System.out::println);
+      forEach(List.of("Java", "Python", "Go").stream(), System.out::println);
+   }
+
+   static <T> void forEach(Stream<T> elements, Consumer<? super T> action) {
+      elements.forEach(action);
    }
 
    // 13. forEachOrdered (for parallel streams)
    public void exampleForEachOrdered() {
-      List.of("A", "B", "C").parallelStream()
-         .forEachOrdered(System.out::println);
+      forEachOrdered(List.of("A", "B", "C").parallelStream(), System.out::println);
+   }
+
+   static <T> void forEachOrdered(Stream<T> elements, Consumer<? super T> action) {
+      elements.forEachOrdered(action);
    }
 
    // 14. toArray
    public void exampleToArray() {
-      String[] arr = List.of("A", "B").stream().toArray(String[]::new);
+      String[] arr = toArray(List.of("A", "B").stream());
       System.out.println(Arrays.toString(arr)); // [A, B]
    }
 
+   static String[] toArray(Stream<String> strings) {
+      return strings.toArray(String[]::new);
+   }
+
    // 15. reduce
    public void exampleReduce() {
-      int sum = List.of(1, 2, 3).stream().reduce(0, Integer::sum);
+      int sum = sum(List.of(1, 2, 3).stream());
       System.out.println(sum); // 6
    }
 
+   static int sum(Stream<Integer> numbers) {
+      return numbers.reduce(0, Integer::sum);
+   }
+
    // 16. collect
    public void exampleCollect() {
-      List<String> upper = List.of("a", "b").stream()
+      List<String> upper = collectUpperCase(List.of("a", "b").stream());
+      System.out.println(upper); // [A, B]
+   }
+
+   static List<String> collectUpperCase(Stream<String> strings) {
+      return strings
          .map(String::toUpperCase)
          .collect(Collectors.toList());
-      System.out.println(upper); // [A, B]
    }
 
    // 17. min
    public void exampleMin() {
-      int min = Stream.of(3, 5, 1).min(Integer::compareTo).orElse(-1);
+      int min = min(Stream.of(3, 5, 1));
       System.out.println(min); // 1
    }
 
+   static int min(Stream<Integer> numbers) {
+      return numbers.min(Integer::compareTo).orElse(-1);
+   }
+
    // 18. max
    public void exampleMax() {
-      int max = Stream.of(3, 5, 1).max(Integer::compareTo).orElse(-1);
+      int max = max(Stream.of(3, 5, 1));
       System.out.println(max); // 5
    }
 
+   static int max(Stream<Integer> numbers) {
+      return numbers.max(Integer::compareTo).orElse(-1);
+   }
+
    // 19. count
+   // When the size of the source is known (SIZED) and no stage can change it, count() returns it without
+   // running the pipeline at all
    public void exampleCount() {
-      long count = Stream.of("A", "B", "C").count();
+      long count = count(Stream.of("A", "B", "C"));
       System.out.println(count); // 3
    }
 
+   static long count(Stream<?> elements) {
+      return elements.count();
+   }
+
    // 20. anyMatch
    public void exampleAnyMatch() {
-      boolean hasEven = Stream.of(1, 3, 4).anyMatch(n -> n % 2 == 0);
+      boolean hasEven = anyEven(Stream.of(1, 3, 4));
       System.out.println(hasEven); // true
    }
 
+   static boolean anyEven(Stream<Integer> numbers) {
+      return numbers.anyMatch(n -> n % 2 == 0);
+   }
+
    // 21. allMatch
    public void exampleAllMatch() {
-      boolean allEven = Stream.of(2, 4, 6).allMatch(n -> n % 2 == 0);
+      boolean allEven = allEven(Stream.of(2, 4, 6));
       System.out.println(allEven); // true
    }
 
+   static boolean allEven(Stream<Integer> numbers) {
+      return numbers.allMatch(n -> n % 2 == 0);
+   }
+
    // 22. noneMatch
    public void exampleNoneMatch() {
-      boolean noneNegative = Stream.of(1, 2, 3).noneMatch(n -> n < 0);
+      boolean noneNegative = noneNegative(Stream.of(1, 2, 3));
       System.out.println(noneNegative); // true
    }
 
+   static boolean noneNegative(Stream<Integer> numbers) {
+      return numbers.noneMatch(n -> n < 0);
+   }
+
    // 23. findFirst
    public void exampleFindFirst() {
-      Optional<String> first = Stream.of("a", "b").findFirst();
+      Optional<String> first = findFirst(Stream.of("a", "b"));
       first.ifPresent(System.out::println); // a
    }
 
+   static <T> Optional<T> findFirst(Stream<T> elements) {
+      return elements.findFirst();
+   }
+
    // 24. findAny
    public void exampleFindAny() {
-      Optional<String> any = Stream.of("x", "y").findAny();
+      Optional<String> any = findAny(Stream.of("x", "y"));
       any.ifPresent(System.out::println); // x or y
    }
 
+   static <T> Optional<T> findAny(Stream<T> elements) {
+      return elements.findAny();
+   }
+
    //JAVA 9+ EXTRA STREAM METHODS
    // 25. Stream.ofNullable
    public void exampleOfNullable() {
@@ -248,10 +339,12 @@ public class Streams {
 
    // 26. Stream.iterate (with condition) - Java 9+
    public void exampleIterateWithCondition() {
-      Stream.iterate(1, n -> n < 10, n -> n + 2)
-         .forEach(System.out::println); // 1, 3, 5, 7, 9
+      oddNumbersBelow(10).forEach(System.out::println); // 1, 3, 5, 7, 9
    }
 
+   static Stream<Integer> oddNumbersBelow(int bound) {
+      return Stream.iterate(1, n -> n < bound, n -> n + 2);
+   }
 
    /**
     * The principle of lazy evaluation is that you get that you need only when you need it
@@ -262,5 +355,8 @@ public class Streams {
     * Eager: evaluation would be to retrieve all 10,000 records in one go.
     *
     * With regard to streams, this means that nothing happens until the terminal operation occurs
+    *
+    * PagedDatabaseService.streamAllRecords() works exactly like that: it fetches 50 records at a time
+    * and fetches the next 50 in the background while the current ones are consumed.
     */
 }
@@ -1,6 +1,8 @@
 package com.technologyos.functional.fundamentals;
 
 import com.technologyos.functional.utils.Utils;
+import com.technologyos.functional.utils.io.ChannelLineReader;
+import com.technologyos.functional.utils.stream.Sequences;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -65,6 +67,9 @@ public class StreamsAndIterables {
       BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
       Stream<String> bufferStream = in.lines(); // Stream of user input lines
 
+      // For big piped feeds, read the raw bytes in large blocks and get the lines in batches
+      Stream<List<String>> inputBatches = ChannelLineReader.stdinBatches();
+
       //Very commonly, we create streams from existing collections:
       List<String> coolNames = Utils.getListOf("Armando", "Miriam", "Elizabeth", "Jaime");
       Stream<String> coolNamesStream = coolNames.stream();
@@ -74,7 +79,13 @@ public class StreamsAndIterables {
 
       //Streams can also be generated dynamically, for example, by functions:
       AtomicInteger counter = new AtomicInteger();
-      Stream<Integer> countingStream = Stream.generate(counter::getAndIncrement);
+      Stream<Integer> generatedStream = Stream.generate(counter::getAndIncrement);
+
+      /*
+       * generatedStream is endless, splits badly in parallel and every thread contends on the same AtomicInteger.
+       * When the n-th element can be computed from n, a sized sequence splits evenly across the cores.
+       */
+      Stream<Integer> countingStream = Sequences.counting(0, 1_000_000).boxed();
 
       /*
        * One of the most powerful features of Streams is that they can be processed
@@ -0,0 +1,37 @@
+package com.technologyos.functional.interfaces;
+
+import com.technologyos.functional.utils.stream.PrefetchingPageSpliterator;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * A DatabaseService whose records can be read page by page, in id order.
+ */
+public interface PagedDatabaseService<T> extends DatabaseService<T> {
+   int DEFAULT_PAGE_SIZE = 50;
+   int DEFAULT_READ_AHEAD = 1;
+
+   /**
+    * Keyset pagination: at most limit records whose id is greater than afterId, ordered by id.
+    * afterId is null for the first page.
+    */
+   List<T> getRecordsAfter(Long afterId, int limit);
+
+   // The id getRecordsAfter orders by
+   Long getId(T t);
+
+   /**
+    * Lazy alternative to getAllRecords: records are fetched pageSize at a time, and while one page is
+    * consumed the next readAhead pages are fetched in the background.
+    * Close the stream (try-with-resources) to cancel the pending fetches when stopping early.
+    */
+   default Stream<T> streamAllRecords(int pageSize, int readAhead, Executor executor) {
+      return PrefetchingPageSpliterator.stream(this::getRecordsAfter, this::getId, pageSize, readAhead, executor);
+   }
+
+   default Stream<T> streamAllRecords() {
+      return streamAllRecords(DEFAULT_PAGE_SIZE, DEFAULT_READ_AHEAD, PrefetchingPageSpliterator.defaultExecutor());
+   }
+}
@@ -0,0 +1,3 @@
+package com.technologyos.functional.models;
+
+public record Course(String name, CourseLevel level) {}
@@ -0,0 +1,36 @@
+package com.technologyos.functional.models;
+
+/**
+ * Level of a course as it is written in the "name:level" course records.
+ */
+public enum CourseLevel {
+   INTRODUCTORIO("Introductorio"),
+   INTERMEDIO("Intermedio"),
+   AVANZADO("Avanzado");
+
+   private static final CourseLevel[] VALUES = values();
+
+   private final String label;
+
+   CourseLevel(String label) {
+      this.label = label;
+   }
+
+   public String label() {
+      return label;
+   }
+
+   /**
+    * Matches the characters [from, to) of the text against the labels, without creating a substring.
+    * Returns null when they are not a known level. The comparison is case-sensitive.
+    */
+   public static CourseLevel fromLabel(String text, int from, int to) {
+      int length = to - from;
+      for (CourseLevel level : VALUES) {
+         if (level.label.length() == length && text.regionMatches(from, level.label, 0, length)) {
+            return level;
+         }
+      }
+      return null;
+   }
+}
@@ -14,5 +14,17 @@ import java.math.BigDecimal;
 public class Employee {
    private String dni;
    private String name;
-   private BigDecimal salary;
+   private Money salary;
+
+   // BigDecimal is converted at the boundary, see Money.of(BigDecimal)
+   public Employee(String dni, String name, BigDecimal salary) {
+      this(dni, name, salary == null ? null : Money.of(salary));
+   }
+
+   public static class EmployeeBuilder {
+      public EmployeeBuilder salary(BigDecimal salary) {
+         this.salary = salary == null ? null : Money.of(salary);
+         return this;
+      }
+   }
 }
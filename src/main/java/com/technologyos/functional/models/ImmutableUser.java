@@ -1,7 +1,8 @@
 package com.technologyos.functional.models;
 
+import com.technologyos.functional.utils.collections.PersistentVector;
+
 import java.io.Serializable;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -9,7 +10,8 @@ import java.util.List;
  * 1.- no one can extend from it
  * 2.- once created an object cannot mutate
  * 3.- The constructor requires all properties to generate an object
- * 4.- When accessing the friends, a copy is generated — the mutable list is not returned.
+ * 4.- The friends are kept in a PersistentVector, an immutable list, so it is returned as it is
+ *     without a copy. withFriend() shares the existing friends instead of copying them.
  */
 public record ImmutableUser(
    String fullName,
@@ -18,8 +20,11 @@ public record ImmutableUser(
    List<String> friends
 ) implements Serializable {
 
-   @Override
-   public List<String> friends() {
-      return new LinkedList<>(friends);
+   public ImmutableUser {
+      friends = PersistentVector.copyOf(friends);
+   }
+
+   public ImmutableUser withFriend(String friend) {
+      return new ImmutableUser(fullName, age, email, ((PersistentVector<String>) friends).plus(friend));
    }
 }
@@ -0,0 +1,138 @@
+package com.technologyos.functional.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A fixed-point amount: {@code units} minor units with {@code scale} decimals, so 12.50 is (1250, 2).
+ *
+ * The arithmetic is done on the long, so it doesn't allocate like BigDecimal.add, and every operation that
+ * could overflow fails with an ArithmeticException instead of wrapping around. Amounts of different scales
+ * are aligned to the bigger one. BigDecimal is only used at the boundary: {@link #of(BigDecimal)} and
+ * {@link #toBigDecimal()}, which is also the JSON form.
+ *
+ * Like BigDecimal, equals compares the scale too (1.0 is not equal to 1.00), use compareTo for the value.
+ */
+public record Money(long units, int scale) implements Comparable<Money> {
+   public static final int MAX_SCALE = 18;
+   public static final Money ZERO = new Money(0, 0);
+
+   private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+   static {
+      POWERS_OF_TEN[0] = 1;
+      for (int i = 1; i <= MAX_SCALE; i++) {
+         POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+      }
+   }
+
+   public Money {
+      checkScale(scale);
+   }
+
+   public static Money of(long units, int scale) {
+      return new Money(units, scale);
+   }
+
+   // Keeps the scale of the value (negative scales become 0). Fails if the unscaled value doesn't fit in a long
+   @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+   public static Money of(BigDecimal value) {
+      return of(value, Math.max(value.scale(), 0));
+   }
+
+   // Fails if the value has more decimals than the scale or doesn't fit in a long
+   public static Money of(BigDecimal value, int scale) {
+      checkScale(scale);
+      return new Money(value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), scale);
+   }
+
+   public static Money of(String value) {
+      return of(new BigDecimal(value));
+   }
+
+   @JsonValue
+   public BigDecimal toBigDecimal() {
+      return BigDecimal.valueOf(units, scale);
+   }
+
+   public Money plus(Money other) {
+      if (scale == other.scale) {
+         return new Money(Math.addExact(units, other.units), scale);
+      }
+      int target = Math.max(scale, other.scale);
+      return new Money(Math.addExact(rescale(units, scale, target), rescale(other.units, other.scale, target)), target);
+   }
+
+   public Money minus(Money other) {
+      if (scale == other.scale) {
+         return new Money(Math.subtractExact(units, other.units), scale);
+      }
+      int target = Math.max(scale, other.scale);
+      return new Money(Math.subtractExact(rescale(units, scale, target), rescale(other.units, other.scale, target)), target);
+   }
+
+   public Money times(long factor) {
+      return new Money(Math.multiplyExact(units, factor), scale);
+   }
+
+   public Money negate() {
+      return new Money(Math.negateExact(units), scale);
+   }
+
+   // More decimals are always exact (or overflow), fewer are rounded with the given mode
+   public Money withScale(int newScale, RoundingMode rounding) {
+      checkScale(newScale);
+      if (newScale >= scale) {
+         return new Money(rescale(units, scale, newScale), newScale);
+      }
+      return of(toBigDecimal().setScale(newScale, rounding), newScale);
+   }
+
+   public int signum() {
+      return Long.signum(units);
+   }
+
+   @Override
+   public int compareTo(Money other) {
+      return compare(units, scale, other.units, other.scale);
+   }
+
+   @Override
+   public String toString() {
+      return toBigDecimal().toPlainString();
+   }
+
+   /**
+    * Compares two fixed-point amounts without creating them. If aligning the scales overflows, the one
+    * being scaled up is bigger in magnitude than anything of the other scale, so its sign decides.
+    */
+   public static int compare(long units, int scale, long otherUnits, int otherScale) {
+      if (scale == otherScale) {
+         return Long.compare(units, otherUnits);
+      }
+      if (scale < otherScale) {
+         return -compare(otherUnits, otherScale, units, scale);
+      }
+      long factor = POWERS_OF_TEN[scale - otherScale];
+      long high = Math.multiplyHigh(otherUnits, factor);
+      long aligned = otherUnits * factor;
+      if ((high == 0 && aligned >= 0) || (high == -1 && aligned < 0)) {
+         return Long.compare(units, aligned);
+      }
+      return otherUnits < 0 ? 1 : -1;
+   }
+
+   // units with from decimals expressed with to (>= from) decimals
+   public static long rescale(long units, int from, int to) {
+      return from == to ? units : Math.multiplyExact(units, POWERS_OF_TEN[to - from]);
+   }
+
+   private static void checkScale(int scale) {
+      if (scale < 0 || scale > MAX_SCALE) {
+         throw new IllegalArgumentException("scale must be between 0 and " + MAX_SCALE + ": " + scale);
+      }
+   }
+}
@@ -1,14 +1,219 @@
 package com.technologyos.functional.models;
 
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import java.util.List;
 
-@Data
-@NoArgsConstructor
-public class Phone {
-   private String country;
-   private char[] countryCode;
-   private char[] digits;
+/**
+ * A phone number packed in a long: the calling code (10 bits), the number of subscriber digits (4 bits) and
+ * the subscriber digits as a number (50 bits), so leading zeros are kept. equals and hashCode compare that
+ * long, and the country is the shared {@link PhoneCountry} of the code.
+ *
+ * Accepted formats: "+52 55 1234 5678", "+1 (555) 123-4567", "+525512345678" or just the subscriber digits
+ * "5512345678" (no country). Spaces, '-', '.', '(' and ')' may separate the digits. After the '+', a code
+ * followed by a separator can be any code from 1 to 999; without a separator it must be one of the codes
+ * {@link PhoneCountry} knows. Up to 15 subscriber digits.
+ *
+ * Parsing reads the chars of the input, it creates no substring, regex or intermediate array.
+ * {@link #parsePacked(CharSequence)} doesn't even create the Phone.
+ */
+public final class Phone {
+   // Never the result of parsing: a phone has at least one digit
+   public static final long INVALID = 0L;
 
-   public Phone(String phoneString) {}
+   public static final int MAX_DIGITS = 15;
+
+   private static final int VALUE_BITS = 50;
+   private static final int LENGTH_BITS = 4;
+   private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+   private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+
+   private final long packed;
+
+   public Phone(String phoneString) {
+      this(checkedPack(phoneString));
+   }
+
+   private Phone(long packed) {
+      this.packed = packed;
+   }
+
+   public static Phone fromPacked(long packed) {
+      if (packed == INVALID || length(packed) == 0) {
+         throw new IllegalArgumentException("Not a packed phone: " + packed);
+      }
+      return new Phone(packed);
+   }
+
+   /**
+    * Parses every text of an import batch. Texts that are not phones are INVALID in the result, so one bad
+    * row doesn't stop the batch.
+    */
+   public static long[] parseAllPacked(List<? extends CharSequence> texts) {
+      long[] packed = new long[texts.size()];
+      for (int i = 0; i < packed.length; i++) {
+         packed[i] = parsePacked(texts.get(i));
+      }
+      return packed;
+   }
+
+   // Like parseAllPacked but fails on the first text that is not a phone
+   public static Phone[] parseAll(List<? extends CharSequence> texts) {
+      Phone[] phones = new Phone[texts.size()];
+      for (int i = 0; i < phones.length; i++) {
+         long packed = parsePacked(texts.get(i));
+         if (packed == INVALID) {
+            throw new IllegalArgumentException("Invalid phone at " + i + ": " + texts.get(i));
+         }
+         phones[i] = new Phone(packed);
+      }
+      return phones;
+   }
+
+   // The packed phone, or INVALID
+   public static long parsePacked(CharSequence text) {
+      if (text == null) {
+         return INVALID;
+      }
+      int end = text.length();
+      while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+         end--;
+      }
+      int position = 0;
+      while (position < end && Character.isWhitespace(text.charAt(position))) {
+         position++;
+      }
+      int callingCode = 0;
+      if (position < end && text.charAt(position) == '+') {
+         position++;
+         int codeDigits = 0;
+         while (position < end && isDigit(text.charAt(position))) {
+            codeDigits++;
+            position++;
+         }
+         int codeStart = position - codeDigits;
+         if (codeDigits == 0 || text.charAt(codeStart) == '0') {
+            return INVALID;
+         }
+         if (position < end && codeDigits <= 3) {
+            // "+52 55..." the separator ends the code
+            callingCode = digits(text, codeStart, position);
+         } else {
+            // "+5255..." the code is the known prefix, the rest are subscriber digits
+            callingCode = knownPrefix(text, codeStart, position);
+            position = codeStart + (callingCode < 10 ? 1 : callingCode < 100 ? 2 : 3);
+         }
+         if (callingCode <= 0) {
+            return INVALID;
+         }
+      }
+      long value = 0;
+      int length = 0;
+      for (; position < end; position++) {
+         char c = text.charAt(position);
+         if (isDigit(c)) {
+            if (++length > MAX_DIGITS) {
+               return INVALID;
+            }
+            value = value * 10 + (c - '0');
+         } else if (!isSeparator(c)) {
+            return INVALID;
+         }
+      }
+      return length == 0 ? INVALID : pack(callingCode, length, value);
+   }
+
+   public PhoneCountry getPhoneCountry() {
+      return PhoneCountry.of(callingCode(packed));
+   }
+
+   // The region of the country code (MX), null if the phone has no country or we don't know the code
+   public String getCountry() {
+      return getPhoneCountry().region();
+   }
+
+   // Empty if the phone has no country
+   public char[] getCountryCode() {
+      int code = callingCode(packed);
+      return code == 0 ? new char[0] : Integer.toString(code).toCharArray();
+   }
+
+   public char[] getDigits() {
+      int length = length(packed);
+      long value = packed & VALUE_MASK;
+      char[] digits = new char[length];
+      for (int i = length - 1; i >= 0; i--) {
+         digits[i] = (char) ('0' + value % 10);
+         value /= 10;
+      }
+      return digits;
+   }
+
+   public long packed() {
+      return packed;
+   }
+
+   @Override
+   public boolean equals(Object other) {
+      return this == other || other instanceof Phone phone && phone.packed == packed;
+   }
+
+   @Override
+   public int hashCode() {
+      return Long.hashCode(packed * 0x9E3779B97F4A7C15L);
+   }
+
+   // E.164 style: +52 5512345678, or only the digits when there is no country
+   @Override
+   public String toString() {
+      int code = callingCode(packed);
+      String digits = new String(getDigits());
+      return code == 0 ? digits : "+" + code + " " + digits;
+   }
+
+   private static long checkedPack(String phoneString) {
+      long packed = parsePacked(phoneString);
+      if (packed == INVALID) {
+         throw new IllegalArgumentException("Invalid phone: " + phoneString);
+      }
+      return packed;
+   }
+
+   private static long pack(int callingCode, int length, long value) {
+      return (long) callingCode << (VALUE_BITS + LENGTH_BITS) | (long) length << VALUE_BITS | value;
+   }
+
+   private static int callingCode(long packed) {
+      return (int) (packed >>> (VALUE_BITS + LENGTH_BITS));
+   }
+
+   private static int length(long packed) {
+      return (int) (packed >>> VALUE_BITS & LENGTH_MASK);
+   }
+
+   // The known code the digits start with, or 0
+   private static int knownPrefix(CharSequence text, int start, int end) {
+      int code = 0;
+      for (int i = start; i < Math.min(end, start + 3); i++) {
+         code = code * 10 + (text.charAt(i) - '0');
+         if (PhoneCountry.of(code).isKnown()) {
+            return code;
+         }
+      }
+      return 0;
+   }
+
+   private static int digits(CharSequence text, int start, int end) {
+      int value = 0;
+      for (int i = start; i < end; i++) {
+         value = value * 10 + (text.charAt(i) - '0');
+      }
+      return value;
+   }
+
+   private static boolean isDigit(char c) {
+      return c >= '0' && c <= '9';
+   }
+
+   private static boolean isSeparator(char c) {
+      return c == ' ' || c == '-' || c == '.' || c == '(' || c == ')';
+   }
 }
@@ -0,0 +1,48 @@
+package com.technologyos.functional.models;
+
+/**
+ * A country calling code (52 for Mexico) and the region it belongs to, null when we don't know it.
+ * There is one instance per code, created up front: {@link #of(int)} never allocates, and the phones of a
+ * country all share it. {@link #NONE} (code 0) is the country of the phones written without one.
+ */
+public record PhoneCountry(int callingCode, String region) {
+   public static final int MAX_CALLING_CODE = 999;
+
+   private static final PhoneCountry[] BY_CODE = new PhoneCountry[MAX_CALLING_CODE + 1];
+
+   // The codes we recognize without a separator after them ("+525512345678"). Calling codes are prefix-free.
+   private static final Object[][] KNOWN = {
+      {1, "US"}, {7, "RU"}, {20, "EG"}, {33, "FR"}, {34, "ES"}, {39, "IT"}, {44, "GB"}, {49, "DE"},
+      {51, "PE"}, {52, "MX"}, {53, "CU"}, {54, "AR"}, {55, "BR"}, {56, "CL"}, {57, "CO"}, {58, "VE"},
+      {81, "JP"}, {86, "CN"}, {91, "IN"}, {502, "GT"}, {503, "SV"}, {504, "HN"}, {505, "NI"}, {506, "CR"},
+      {507, "PA"}, {591, "BO"}, {593, "EC"}, {595, "PY"}, {598, "UY"}
+   };
+
+   static {
+      for (Object[] known : KNOWN) {
+         BY_CODE[(int) known[0]] = new PhoneCountry((int) known[0], (String) known[1]);
+      }
+      for (int code = 0; code <= MAX_CALLING_CODE; code++) {
+         if (BY_CODE[code] == null) {
+            BY_CODE[code] = new PhoneCountry(code, null);
+         }
+      }
+   }
+
+   public static final PhoneCountry NONE = BY_CODE[0];
+
+   public static PhoneCountry of(int callingCode) {
+      if (callingCode < 0 || callingCode > MAX_CALLING_CODE) {
+         throw new IllegalArgumentException("Invalid calling code: " + callingCode);
+      }
+      return BY_CODE[callingCode];
+   }
+
+   public boolean isKnown() {
+      return region != null;
+   }
+
+   public String codeString() {
+      return Integer.toString(callingCode);
+   }
+}
@@ -14,5 +14,17 @@ import java.math.BigDecimal;
 public class Product {
    private Long productId;
    private String name;
-   private BigDecimal price;
+   private Money price;
+
+   // BigDecimal is converted at the boundary, see Money.of(BigDecimal)
+   public Product(Long productId, String name, BigDecimal price) {
+      this(productId, name, price == null ? null : Money.of(price));
+   }
+
+   public static class ProductBuilder {
+      public ProductBuilder price(BigDecimal price) {
+         this.price = price == null ? null : Money.of(price);
+         return this;
+      }
+   }
 }
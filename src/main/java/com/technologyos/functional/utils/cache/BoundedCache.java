@@ -0,0 +1,192 @@
+package com.technologyos.functional.utils.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A thread-safe cache bounded by number of entries or by total weight, evicting the least recently used entries.
+ *
+ * Keys are spread over independent segments, each one with its own lock and its own LRU order,
+ * so threads working on different keys rarely wait for each other (there is no global lock).
+ * The bound is split evenly between the segments.
+ *
+ * Values are loaded outside of the lock: two threads missing the same key at the same time may both
+ * compute it and the first one stored wins. That is fine for the pure functions this cache is meant for.
+ * Null keys and values are supported.
+ */
+public final class BoundedCache<K, V> {
+   private static final Object NULL = new Object();
+   private static final int MIN_SEGMENT_SIZE = 16;
+
+   private final Segment[] segments;
+   private final ToLongBiFunction<? super K, ? super V> weigher;
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+
+   private BoundedCache(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+      if (maximumWeight <= 0) {
+         throw new IllegalArgumentException("The cache bound must be positive");
+      }
+      int count = segmentCount(maximumWeight);
+      this.segments = new Segment[count];
+      long segmentWeight = Math.max(1, maximumWeight / count);
+      for (int i = 0; i < count; i++) {
+         segments[i] = new Segment(segmentWeight, evictions);
+      }
+      this.weigher = weigher;
+   }
+
+   public static <K, V> BoundedCache<K, V> ofMaximumSize(long maximumSize) {
+      return new BoundedCache<>(maximumSize, (key, value) -> 1L);
+   }
+
+   // The weigher must return a positive weight, e.g. the length of a cached String
+   public static <K, V> BoundedCache<K, V> ofMaximumWeight(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+      return new BoundedCache<>(maximumWeight, weigher);
+   }
+
+   // Enough segments to spread the threads, but never so many that each LRU only holds a handful of entries
+   private static int segmentCount(long maximumWeight) {
+      int byThreads = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+      long bySize = Math.max(1, maximumWeight / MIN_SEGMENT_SIZE);
+      return (int) Math.max(1, Math.min(byThreads, Long.highestOneBit(bySize)));
+   }
+
+   /**
+    * Returns the cached value for the key, computing and storing it with the loader on a miss.
+    */
+   public V get(K key, Function<? super K, ? extends V> loader) {
+      Object mask = mask(key);
+      Segment segment = segmentFor(mask);
+
+      Object cached = segment.get(mask);
+      if (cached != null) {
+         hits.increment();
+         return unmask(cached);
+      }
+
+      misses.increment();
+      V value = loader.apply(key);
+      return unmask(segment.putIfAbsent(mask, mask(value), weigher.applyAsLong(key, value)));
+   }
+
+   public V getIfPresent(K key) {
+      Object mask = mask(key);
+      Object cached = segmentFor(mask).get(mask);
+      if (cached == null) {
+         misses.increment();
+         return null;
+      }
+      hits.increment();
+      return unmask(cached);
+   }
+
+   public long size() {
+      long size = 0;
+      for (Segment segment : segments) {
+         size += segment.size();
+      }
+      return size;
+   }
+
+   public void clear() {
+      for (Segment segment : segments) {
+         segment.clear();
+      }
+   }
+
+   public CacheStats stats() {
+      return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+   }
+
+   private Segment segmentFor(Object key) {
+      int hash = key.hashCode();
+      hash ^= hash >>> 16;
+      return segments[hash & (segments.length - 1)];
+   }
+
+   private static Object mask(Object value) {
+      return value == null ? NULL : value;
+   }
+
+   @SuppressWarnings("unchecked")
+   private static <T> T unmask(Object value) {
+      return value == NULL ? null : (T) value;
+   }
+
+   private record Weighted(Object value, long weight) {}
+
+   private static final class Segment {
+      private final ReentrantLock lock = new ReentrantLock();
+      private final LinkedHashMap<Object, Weighted> entries = new LinkedHashMap<>(16, 0.75f, true);
+      private final long maximumWeight;
+      private final LongAdder evictions;
+      private long weight;
+
+      Segment(long maximumWeight, LongAdder evictions) {
+         this.maximumWeight = maximumWeight;
+         this.evictions = evictions;
+      }
+
+      Object get(Object key) {
+         lock.lock();
+         try {
+            Weighted entry = entries.get(key);
+            return entry == null ? null : entry.value();
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      Object putIfAbsent(Object key, Object value, long entryWeight) {
+         lock.lock();
+         try {
+            Weighted existing = entries.get(key);
+            if (existing != null) {
+               return existing.value();
+            }
+            entries.put(key, new Weighted(value, entryWeight));
+            weight += entryWeight;
+            evictIfNeeded();
+            return value;
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      // Entries are kept in access order, so the first ones are the least recently used
+      private void evictIfNeeded() {
+         Iterator<Map.Entry<Object, Weighted>> iterator = entries.entrySet().iterator();
+         while (weight > maximumWeight && iterator.hasNext()) {
+            weight -= iterator.next().getValue().weight();
+            iterator.remove();
+            evictions.increment();
+         }
+      }
+
+      int size() {
+         lock.lock();
+         try {
+            return entries.size();
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      void clear() {
+         lock.lock();
+         try {
+            entries.clear();
+            weight = 0;
+         } finally {
+            lock.unlock();
+         }
+      }
+   }
+}
@@ -0,0 +1,16 @@
+package com.technologyos.functional.utils.cache;
+
+/**
+ * A snapshot of how a {@link BoundedCache} has been used.
+ */
+public record CacheStats(long hits, long misses, long evictions) {
+
+   public long requests() {
+      return hits + misses;
+   }
+
+   public double hitRate() {
+      long requests = requests();
+      return requests == 0 ? 1.0 : (double) hits / requests;
+   }
+}
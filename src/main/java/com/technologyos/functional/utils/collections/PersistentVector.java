@@ -0,0 +1,244 @@
+package com.technologyos.functional.utils.collections;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An immutable List that can be shared without defensive copies and "modified" cheaply.
+ *
+ * Elements live in a tree where every node has up to 32 children (a 32-way trie), plus a separate
+ * tail array with the last elements. plus() and with() return a new vector that shares every
+ * untouched node with the original, so they copy at most one path of the tree (log32(n) small arrays)
+ * instead of the whole list. Reads are O(log32(n)), which is at most 7 hops for any int size.
+ *
+ * The List mutators (add, set, remove...) throw UnsupportedOperationException.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess, Serializable {
+   private static final int BITS = 5;
+   private static final int WIDTH = 1 << BITS;
+   private static final int MASK = WIDTH - 1;
+
+   private static final Object[] EMPTY_NODE = new Object[WIDTH];
+   private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+   private final int size;
+   private final int shift;
+   private final Object[] root;
+   private final Object[] tail;
+
+   private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+      this.size = size;
+      this.shift = shift;
+      this.root = root;
+      this.tail = tail;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <E> PersistentVector<E> empty() {
+      return (PersistentVector<E>) EMPTY;
+   }
+
+   @SafeVarargs
+   public static <E> PersistentVector<E> of(E... elements) {
+      return copyOf(Arrays.asList(elements));
+   }
+
+   /**
+    * Builds a vector with the elements of the collection. A PersistentVector is returned as it is.
+    * The tree is built bottom-up, so each element is copied once.
+    */
+   @SuppressWarnings("unchecked")
+   public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+      if (elements instanceof PersistentVector<?> vector) {
+         return (PersistentVector<E>) vector;
+      }
+      Object[] all = elements.toArray();
+      int size = all.length;
+      if (size == 0) {
+         return empty();
+      }
+
+      int tailOffset = tailOffset(size);
+      Object[] tail = Arrays.copyOfRange(all, tailOffset, size);
+
+      Object[][] nodes = new Object[tailOffset / WIDTH][];
+      for (int i = 0; i < nodes.length; i++) {
+         nodes[i] = Arrays.copyOfRange(all, i * WIDTH, (i + 1) * WIDTH);
+      }
+
+      int shift = BITS;
+      while (nodes.length > WIDTH) {
+         Object[][] parents = new Object[(nodes.length + MASK) / WIDTH][];
+         for (int i = 0; i < parents.length; i++) {
+            parents[i] = Arrays.copyOf(Arrays.copyOfRange(nodes, i * WIDTH, Math.min((i + 1) * WIDTH, nodes.length)), WIDTH, Object[].class);
+         }
+         nodes = parents;
+         shift += BITS;
+      }
+      Object[] root = nodes.length == 0 ? EMPTY_NODE : Arrays.copyOf(nodes, WIDTH, Object[].class);
+
+      return new PersistentVector<>(size, shift, root, tail);
+   }
+
+   @Override
+   public int size() {
+      return size;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public E get(int index) {
+      Objects.checkIndex(index, size);
+      return (E) leafFor(index)[index & MASK];
+   }
+
+   // A new vector with the element appended; this one is left untouched
+   public PersistentVector<E> plus(E element) {
+      int tailSize = size - tailOffset(size);
+      if (tailSize < WIDTH) {
+         Object[] newTail = Arrays.copyOf(tail, tailSize + 1);
+         newTail[tailSize] = element;
+         return new PersistentVector<>(size + 1, shift, root, newTail);
+      }
+
+      // The tail is full: it becomes a leaf of the tree and the new element starts a new tail
+      Object[] newRoot;
+      int newShift = shift;
+      if ((size >>> BITS) > (1 << shift)) {
+         newRoot = new Object[WIDTH];
+         newRoot[0] = root;
+         newRoot[1] = newPath(shift, tail);
+         newShift += BITS;
+      } else {
+         newRoot = pushTail(shift, root, tail);
+      }
+      return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+   }
+
+   public PersistentVector<E> plusAll(Collection<? extends E> elements) {
+      PersistentVector<E> result = this;
+      for (E element : elements) {
+         result = result.plus(element);
+      }
+      return result;
+   }
+
+   // A new vector with the element at index replaced; this one is left untouched
+   public PersistentVector<E> with(int index, E element) {
+      Objects.checkIndex(index, size);
+      if (index >= tailOffset(size)) {
+         Object[] newTail = tail.clone();
+         newTail[index & MASK] = element;
+         return new PersistentVector<>(size, shift, root, newTail);
+      }
+      return new PersistentVector<>(size, shift, assoc(shift, root, index, element), tail);
+   }
+
+   @Override
+   public Iterator<E> iterator() {
+      return new Iterator<>() {
+         private int index;
+         private Object[] leaf = size == 0 ? null : leafFor(0);
+
+         @Override
+         public boolean hasNext() {
+            return index < size;
+         }
+
+         @Override
+         @SuppressWarnings("unchecked")
+         public E next() {
+            if (index >= size) {
+               throw new NoSuchElementException();
+            }
+            if ((index & MASK) == 0 && index > 0) {
+               leaf = leafFor(index);
+            }
+            return (E) leaf[index++ & MASK];
+         }
+      };
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public void forEach(Consumer<? super E> action) {
+      for (int start = 0; start < size; start += WIDTH) {
+         Object[] leaf = leafFor(start);
+         int end = Math.min(WIDTH, size - start);
+         for (int i = 0; i < end; i++) {
+            action.accept((E) leaf[i]);
+         }
+      }
+   }
+
+   // Index of the first element stored in the tail
+   private static int tailOffset(int size) {
+      return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+   }
+
+   private Object[] leafFor(int index) {
+      if (index >= tailOffset(size)) {
+         return tail;
+      }
+      Object[] node = root;
+      for (int level = shift; level > 0; level -= BITS) {
+         node = (Object[]) node[(index >>> level) & MASK];
+      }
+      return node;
+   }
+
+   private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+      int childIndex = ((size - 1) >>> level) & MASK;
+      Object[] result = parent.clone();
+      if (level == BITS) {
+         result[childIndex] = tailNode;
+      } else {
+         Object[] child = (Object[]) parent[childIndex];
+         result[childIndex] = child != null
+            ? pushTail(level - BITS, child, tailNode)
+            : newPath(level - BITS, tailNode);
+      }
+      return result;
+   }
+
+   private static Object[] newPath(int level, Object[] node) {
+      if (level == 0) {
+         return node;
+      }
+      Object[] path = new Object[WIDTH];
+      path[0] = newPath(level - BITS, node);
+      return path;
+   }
+
+   private static Object[] assoc(int level, Object[] node, int index, Object element) {
+      Object[] result = node.clone();
+      if (level == 0) {
+         result[index & MASK] = element;
+      } else {
+         int childIndex = (index >>> level) & MASK;
+         result[childIndex] = assoc(level - BITS, (Object[]) node[childIndex], index, element);
+      }
+      return result;
+   }
+
+   // Only the elements are serialized; the tree is rebuilt when reading
+   @Serial
+   private Object writeReplace() {
+      return new SerializedForm(toArray());
+   }
+
+   private record SerializedForm(Object[] elements) implements Serializable {
+      @Serial
+      private Object readResolve() {
+         return copyOf(Arrays.asList(elements));
+      }
+   }
+}
@@ -0,0 +1,169 @@
+package com.technologyos.functional.utils.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the lines of a (possibly endless) byte channel, such as stdin or a pipe, in batches.
+ *
+ * The channel is read straight into a large byte array and the line terminators are searched on the raw bytes,
+ * so there is no Reader decoding char by char: each line is decoded at once with new String(bytes, charset),
+ * which copies pure ASCII lines directly. Lines are handed out as List<String> batches, so the parallel
+ * stages after the source receive chunks of lines instead of single lines.
+ *
+ * Lines end with \n, \r\n or \r, just like BufferedReader.lines(). The charset must encode those
+ * terminators as single bytes (UTF-8, ISO-8859-1, US-ASCII...). The channel must be blocking.
+ * Closing the stream closes the channel, except for {@link #stdinBatches()}: System.in stays open.
+ */
+public class ChannelLineReader {
+   public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+   public static final int DEFAULT_BATCH_SIZE = 1024;
+
+   private static final byte LF = '\n';
+   private static final byte CR = '\r';
+
+   private ChannelLineReader() {}
+
+   // The lines of the standard input, in UTF-8. Closing the stream leaves System.in open
+   public static Stream<List<String>> stdinBatches() {
+      return stream(Channels.newChannel(System.in), StandardCharsets.UTF_8, DEFAULT_BUFFER_SIZE, DEFAULT_BATCH_SIZE);
+   }
+
+   public static Stream<List<String>> batches(ReadableByteChannel channel) {
+      return batches(channel, StandardCharsets.UTF_8, DEFAULT_BUFFER_SIZE, DEFAULT_BATCH_SIZE);
+   }
+
+   /**
+    * @param bufferSize bytes read from the channel at once; lines longer than that are still read whole
+    * @param batchSize  lines per batch, the last batch may have less
+    */
+   public static Stream<List<String>> batches(ReadableByteChannel channel, Charset charset, int bufferSize, int batchSize) {
+      return stream(channel, charset, bufferSize, batchSize).onClose(() -> {
+         try {
+            channel.close();
+         } catch (IOException e) {
+            throw new UncheckedIOException(e);
+         }
+      });
+   }
+
+   private static Stream<List<String>> stream(ReadableByteChannel channel, Charset charset, int bufferSize, int batchSize) {
+      if (bufferSize <= 0 || batchSize <= 0) {
+         throw new IllegalArgumentException("Buffer and batch sizes must be positive");
+      }
+      return StreamSupport.stream(new BatchSpliterator(channel, charset, bufferSize, batchSize), false);
+   }
+
+   // One line at a time, for code that doesn't care about the batches
+   public static Stream<String> lines(ReadableByteChannel channel) {
+      return batches(channel).flatMap(List::stream);
+   }
+
+   private static final class BatchSpliterator extends Spliterators.AbstractSpliterator<List<String>> {
+      private final ReadableByteChannel channel;
+      private final Charset charset;
+      private final int batchSize;
+      private final int bufferSize;
+
+      // Bytes read but not yet consumed are bytes[start, limit); the search for a terminator resumes at scan
+      private byte[] bytes;
+      // Wraps bytes, so the channel reads straight into the array
+      private ByteBuffer buffer;
+      private int start;
+      private int scan;
+      private int limit;
+      private boolean eof;
+
+      BatchSpliterator(ReadableByteChannel channel, Charset charset, int bufferSize, int batchSize) {
+         super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+         this.channel = channel;
+         this.charset = charset;
+         this.batchSize = batchSize;
+         this.bufferSize = bufferSize;
+         this.bytes = new byte[bufferSize];
+         this.buffer = ByteBuffer.wrap(bytes);
+      }
+
+      @Override
+      public boolean tryAdvance(Consumer<? super List<String>> action) {
+         try {
+            List<String> batch = nextBatch();
+            if (batch.isEmpty()) {
+               return false;
+            }
+            action.accept(batch);
+            return true;
+         } catch (IOException e) {
+            throw new UncheckedIOException(e);
+         }
+      }
+
+      private List<String> nextBatch() throws IOException {
+         List<String> batch = new ArrayList<>(batchSize);
+         while (batch.size() < batchSize) {
+            int i = scan;
+            while (i < limit && bytes[i] != LF && bytes[i] != CR) {
+               i++;
+            }
+
+            if (i < limit) {
+               if (bytes[i] == CR && i + 1 == limit && !eof) {
+                  // We need the next byte to know whether this is a \r\n
+                  scan = i;
+                  fill();
+                  continue;
+               }
+               batch.add(new String(bytes, start, i - start, charset));
+               start = bytes[i] == CR && i + 1 < limit && bytes[i + 1] == LF ? i + 2 : i + 1;
+               scan = start;
+            } else if (eof) {
+               if (start < limit) {
+                  batch.add(new String(bytes, start, limit - start, charset));
+                  start = limit;
+               }
+               scan = limit;
+               break;
+            } else {
+               scan = limit;
+               fill();
+            }
+         }
+         return batch;
+      }
+
+      // Moves the unfinished line to the front, then appends what the channel returns
+      private void fill() throws IOException {
+         if (start > 0) {
+            System.arraycopy(bytes, start, bytes, 0, limit - start);
+            limit -= start;
+            scan -= start;
+            start = 0;
+         }
+         if (limit == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            buffer = ByteBuffer.wrap(bytes);
+         }
+
+         buffer.limit(Math.min(bytes.length, limit + bufferSize)).position(limit);
+         int read = channel.read(buffer);
+         if (read < 0) {
+            eof = true;
+            return;
+         }
+         limit += read;
+      }
+   }
+}
@@ -0,0 +1,191 @@
+package com.technologyos.functional.utils.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reads the lines with content of a (possibly very big) file.
+ *
+ * The file is split in chunks that always start right after a line terminator,
+ * every chunk is memory-mapped and scanned in parallel on a ForkJoinPool,
+ * and blank lines are skipped on the raw bytes, so only the lines we keep become Strings.
+ *
+ * Lines end with \n, \r\n or \r, just like BufferedReader.lines().
+ * The charset must encode those terminators and the ASCII whitespace as single bytes
+ * (UTF-8, ISO-8859-1, US-ASCII...).
+ */
+public class MappedLineReader {
+   public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+   private static final byte LF = '\n';
+   private static final byte CR = '\r';
+
+   private MappedLineReader() {}
+
+   public static List<String> readLinesWithContent(Path path) throws IOException {
+      return readLinesWithContent(path, StandardCharsets.UTF_8, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+   }
+
+   public static List<String> readLinesWithContent(Path path, Charset charset, int chunkSize, ForkJoinPool pool)
+      throws IOException {
+      if (chunkSize <= 0) {
+         throw new IllegalArgumentException("Chunk size must be positive");
+      }
+
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         long[] boundaries = chunkBoundaries(channel, chunkSize);
+         if (boundaries.length < 2) {
+            return new ArrayList<>();
+         }
+         return pool.invoke(new ChunkTask(channel, charset, boundaries, 0, boundaries.length - 1));
+      } catch (UncheckedIOException e) {
+         throw e.getCause();
+      }
+   }
+
+   /**
+    * Returns the offsets where each chunk starts, plus the file size as the last element.
+    * Every offset except the first one points right after a line terminator.
+    */
+   private static long[] chunkBoundaries(FileChannel channel, int chunkSize) throws IOException {
+      long size = channel.size();
+      List<Long> boundaries = new ArrayList<>();
+      ByteBuffer probe = ByteBuffer.allocate(8 * 1024);
+
+      long start = 0;
+      while (start < size) {
+         boundaries.add(start);
+         start = nextLineStart(channel, probe, Math.min(start + chunkSize, size), size);
+      }
+      boundaries.add(size);
+
+      return boundaries.stream().mapToLong(Long::longValue).toArray();
+   }
+
+   // Scans forward from `from` until the byte after the next line terminator.
+   private static long nextLineStart(FileChannel channel, ByteBuffer probe, long from, long size) throws IOException {
+      long position = from;
+      while (position < size) {
+         probe.clear();
+         int read = channel.read(probe, position);
+         if (read <= 0) {
+            break;
+         }
+         for (int i = 0; i < read; i++) {
+            byte b = probe.get(i);
+            if (b == LF) {
+               return position + i + 1;
+            }
+            if (b == CR) {
+               long next = position + i + 1;
+               if (i + 1 < read) {
+                  return probe.get(i + 1) == LF ? next + 1 : next;
+               }
+               return next < size && peek(channel, next) == LF ? next + 1 : next;
+            }
+         }
+         position += read;
+      }
+      return size;
+   }
+
+   private static byte peek(FileChannel channel, long position) throws IOException {
+      ByteBuffer single = ByteBuffer.allocate(1);
+      channel.read(single, position);
+      return single.get(0);
+   }
+
+   // Maps one chunk and keeps the lines that have at least one non-whitespace character.
+   private static List<String> scanChunk(FileChannel channel, Charset charset, long start, long end) {
+      long length = end - start;
+      if (length > Integer.MAX_VALUE) {
+         throw new IllegalStateException("A single line is bigger than 2GB starting at offset " + start);
+      }
+
+      MappedByteBuffer buffer;
+      try {
+         buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+
+      List<String> lines = new ArrayList<>();
+      byte[] scratch = new byte[256];
+      int limit = (int) length;
+      int lineStart = 0;
+      boolean hasContent = false;
+
+      for (int i = 0; i < limit; i++) {
+         byte b = buffer.get(i);
+         if (b == LF || b == CR) {
+            if (hasContent) {
+               scratch = addLine(lines, buffer, lineStart, i, scratch, charset);
+            }
+            if (b == CR && i + 1 < limit && buffer.get(i + 1) == LF) {
+               i++;
+            }
+            lineStart = i + 1;
+            hasContent = false;
+         } else if ((b & 0xFF) > ' ') {
+            // Same rule as String.trim(): every byte above the space (including UTF-8 multi-byte) is content
+            hasContent = true;
+         }
+      }
+      if (hasContent) {
+         addLine(lines, buffer, lineStart, limit, scratch, charset);
+      }
+      return lines;
+   }
+
+   private static byte[] addLine(List<String> lines, ByteBuffer buffer, int from, int to, byte[] scratch, Charset charset) {
+      int length = to - from;
+      byte[] bytes = scratch.length >= length ? scratch : new byte[Math.max(length, scratch.length * 2)];
+      buffer.get(from, bytes, 0, length);
+      lines.add(new String(bytes, 0, length, charset));
+      return bytes;
+   }
+
+   // Splits the range of chunks in halves until a single chunk is left, then joins the results in order.
+   private static class ChunkTask extends RecursiveTask<List<String>> {
+      private final FileChannel channel;
+      private final Charset charset;
+      private final long[] boundaries;
+      private final int fromChunk;
+      private final int toChunk;
+
+      ChunkTask(FileChannel channel, Charset charset, long[] boundaries, int fromChunk, int toChunk) {
+         this.channel = channel;
+         this.charset = charset;
+         this.boundaries = boundaries;
+         this.fromChunk = fromChunk;
+         this.toChunk = toChunk;
+      }
+
+      @Override
+      protected List<String> compute() {
+         if (toChunk - fromChunk == 1) {
+            return scanChunk(channel, charset, boundaries[fromChunk], boundaries[toChunk]);
+         }
+
+         int middle = (fromChunk + toChunk) >>> 1;
+         ChunkTask left = new ChunkTask(channel, charset, boundaries, fromChunk, middle);
+         ChunkTask right = new ChunkTask(channel, charset, boundaries, middle, toChunk);
+         left.fork();
+         List<String> rightLines = right.compute();
+         List<String> lines = left.join();
+         lines.addAll(rightLines);
+         return lines;
+      }
+   }
+}
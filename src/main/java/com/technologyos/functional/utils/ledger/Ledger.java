@@ -0,0 +1,358 @@
+package com.technologyos.functional.utils.ledger;
+
+import com.technologyos.functional.exceptions.BusinessException;
+import com.technologyos.functional.models.Account;
+import com.technologyos.functional.models.Money;
+import org.springframework.http.HttpStatus;
+
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The balances of a fixed number of accounts, as long minor units (cents with the default scale 2).
+ *
+ * Every account has a slot in an AtomicLongArray: a stamp and the balance, padded to a cache line so
+ * postings to different accounts never contend. The stamp is a lock per account: a posting takes it by a
+ * CAS from even to odd, writes the balance and releases it with the next even stamp. No monitor and no
+ * allocation, but it is still a lock: postings to the same account wait for each other, first spinning,
+ * then yielding and finally parking, so a holder that was descheduled gets the CPU back. Batches need the
+ * lock: a CAS of the balance alone would be lost under a batch that read it before. A {@link Batch} takes
+ * all its slots in slot order (so two batches can't deadlock) and applies every posting or none.
+ *
+ * Readers don't take slots: {@link #snapshot()} reads the stamps and balances and checks that no stamp
+ * moved, so it sees every batch entirely or not at all. {@link Account}s are read views of the balances.
+ *
+ * A debit can't leave a balance below zero (INSUFFICIENT_FUNDS), and overflows throw ArithmeticException.
+ * Accounts are opened once and never closed.
+ */
+public final class Ledger {
+   public static final int DEFAULT_SCALE = 2;
+
+   // The stamp and the balance of a slot, then padding up to 64 bytes
+   private static final int STRIDE = 8;
+   private static final int STAMP = 0;
+   private static final int BALANCE = 1;
+   private static final int OPTIMISTIC_SNAPSHOT_ATTEMPTS = 16;
+   // How a thread waits for a slot that is held: spins, then yields, then parks PARK_NANOS at a time
+   private static final int SPINS = 64;
+   private static final int YIELDS = 16;
+   private static final long PARK_NANOS = 20_000;
+
+   private final int scale;
+   private final AtomicLongArray slots;
+   // The identity of the account in every slot, its balance is the opening one
+   private final Account[] accounts;
+   private final Map<String, Integer> slotsById = new ConcurrentHashMap<>();
+   private volatile int size;
+
+   public Ledger(int capacity) {
+      this(capacity, DEFAULT_SCALE);
+   }
+
+   public Ledger(int capacity, int scale) {
+      if (scale < 0 || scale > Money.MAX_SCALE) {
+         throw new IllegalArgumentException("scale must be between 0 and " + Money.MAX_SCALE + ": " + scale);
+      }
+      this.scale = scale;
+      this.slots = new AtomicLongArray(Math.multiplyExact(capacity, STRIDE));
+      this.accounts = new Account[capacity];
+   }
+
+   public int scale() {
+      return scale;
+   }
+
+   public int size() {
+      return size;
+   }
+
+   /**
+    * Opens the account with its current balance (rounded HALF_EVEN to the scale of the ledger).
+    * Returns its slot, the fastest way to post to it.
+    */
+   public synchronized int open(Account account) {
+      if (slotsById.containsKey(account.getId())) {
+         throw new IllegalArgumentException("The account " + account.getId() + " is already open");
+      }
+      int slot = size;
+      if (slot == accounts.length) {
+         throw new IllegalStateException("The ledger is full: " + accounts.length + " accounts");
+      }
+      accounts[slot] = account;
+      slots.set(slot * STRIDE + BALANCE, toUnits(account.getCurrentBalance()));
+      slotsById.put(account.getId(), slot);
+      // Publishes the account to the threads that read size
+      size = slot + 1;
+      return slot;
+   }
+
+   public int slotOf(String accountId) {
+      Integer slot = slotsById.get(accountId);
+      if (slot == null) {
+         throw new BusinessException("ACCOUNT_NOT_FOUND", "Account not found: " + accountId,
+            "The account is not open in this ledger", HttpStatus.NOT_FOUND);
+      }
+      return slot;
+   }
+
+   // Adds units (negative for a debit) to the balance of the account in the slot, holding its lock
+   public void post(int slot, long units) {
+      int base = acquire(checkSlot(slot));
+      try {
+         slots.setOpaque(base + BALANCE, checkedBalance(slot, slots.getPlain(base + BALANCE), units));
+      } finally {
+         release(base);
+      }
+   }
+
+   public void post(String accountId, Money amount) {
+      post(slotOf(accountId), toUnits(amount));
+   }
+
+   public void transfer(String fromAccountId, String toAccountId, Money amount) {
+      apply(new Batch().transfer(slotOf(fromAccountId), slotOf(toAccountId), toUnits(amount)));
+   }
+
+   /**
+    * Applies every posting of the batch, or none if one of the balances would go below zero or overflow.
+    * The check is done on the net amount per account. The batch is left as it was and can be reused.
+    */
+   public void apply(Batch batch) {
+      int accountsInBatch = batch.merge();
+      for (int i = 0; i < accountsInBatch; i++) {
+         checkSlot(batch.mergedSlots[i]);
+      }
+      int acquired = 0;
+      try {
+         for (; acquired < accountsInBatch; acquired++) {
+            acquire(batch.mergedSlots[acquired]);
+         }
+         for (int i = 0; i < accountsInBatch; i++) {
+            int slot = batch.mergedSlots[i];
+            batch.newBalances[i] = checkedBalance(slot, slots.getPlain(slot * STRIDE + BALANCE), batch.mergedUnits[i]);
+         }
+         for (int i = 0; i < accountsInBatch; i++) {
+            slots.setOpaque(batch.mergedSlots[i] * STRIDE + BALANCE, batch.newBalances[i]);
+         }
+      } finally {
+         for (int i = 0; i < acquired; i++) {
+            release(batch.mergedSlots[i] * STRIDE);
+         }
+      }
+   }
+
+   public Money balance(String accountId) {
+      return Money.of(balance(slotOf(accountId)), scale);
+   }
+
+   // A read of one slot, it doesn't take the lock but retries while a writer holds it
+   public long balance(int slot) {
+      int base = checkSlot(slot) * STRIDE;
+      for (int attempt = 0; ; attempt++) {
+         long stamp = slots.get(base + STAMP);
+         long balance = slots.get(base + BALANCE);
+         if ((stamp & 1) == 0 && slots.get(base + STAMP) == stamp) {
+            return balance;
+         }
+         backOff(attempt);
+      }
+   }
+
+   public Account account(String accountId) {
+      int slot = slotOf(accountId);
+      return view(accounts[slot], balance(slot), scale);
+   }
+
+   /**
+    * The balances of all the accounts at one instant. If the writers keep changing the slots while they are
+    * read, after a few attempts it locks every slot like a batch does, and the postings wait for it.
+    */
+   public LedgerSnapshot snapshot() {
+      int count = size;
+      long[] stamps = new long[count];
+      long[] balances = new long[count];
+      for (int attempt = 0; attempt < OPTIMISTIC_SNAPSHOT_ATTEMPTS; attempt++) {
+         if (collect(count, stamps, balances) && unchanged(count, stamps)) {
+            return new LedgerSnapshot(Arrays.copyOf(accounts, count), balances, slotsById, scale);
+         }
+         backOff(attempt);
+      }
+      int acquired = 0;
+      try {
+         for (; acquired < count; acquired++) {
+            balances[acquired] = slots.getPlain(acquire(acquired) + BALANCE);
+         }
+      } finally {
+         for (int slot = 0; slot < acquired; slot++) {
+            release(slot * STRIDE);
+         }
+      }
+      return new LedgerSnapshot(Arrays.copyOf(accounts, count), balances, slotsById, scale);
+   }
+
+   static Account view(Account account, long units, int scale) {
+      return new Account(account.getId(), account.getFirstName(), account.getLastName(),
+         BigDecimal.valueOf(units, scale).doubleValue(), account.getPhone());
+   }
+
+   private boolean collect(int count, long[] stamps, long[] balances) {
+      for (int slot = 0; slot < count; slot++) {
+         int base = slot * STRIDE;
+         long stamp = slots.get(base + STAMP);
+         if ((stamp & 1) != 0) {
+            return false;
+         }
+         stamps[slot] = stamp;
+         balances[slot] = slots.get(base + BALANCE);
+      }
+      return true;
+   }
+
+   // If no stamp moved since it was read, all the balances held at the moment the first pass ended
+   private boolean unchanged(int count, long[] stamps) {
+      for (int slot = 0; slot < count; slot++) {
+         if (slots.get(slot * STRIDE + STAMP) != stamps[slot]) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Locks the slot: waits until its stamp is even and this thread moves it to odd. Returns the slot base index.
+    * The fence keeps the balance written next from becoming visible before the odd stamp (an acquire CAS only
+    * orders its read), otherwise a reader could see the new balance under the old even stamp.
+    */
+   private int acquire(int slot) {
+      int base = slot * STRIDE;
+      for (int attempt = 0; ; attempt++) {
+         long stamp = slots.get(base + STAMP);
+         if ((stamp & 1) == 0 && slots.weakCompareAndSetAcquire(base + STAMP, stamp, stamp + 1)) {
+            VarHandle.storeStoreFence();
+            return base;
+         }
+         backOff(attempt);
+      }
+   }
+
+   // A lock is held for a few instructions, so spinning is usually enough, unless its holder lost the CPU
+   private static void backOff(int attempt) {
+      if (attempt < SPINS) {
+         Thread.onSpinWait();
+      } else if (attempt < SPINS + YIELDS) {
+         Thread.yield();
+      } else {
+         LockSupport.parkNanos(PARK_NANOS);
+      }
+   }
+
+   // Publishes the balance written while the slot was held
+   private void release(int base) {
+      slots.setRelease(base + STAMP, slots.getPlain(base + STAMP) + 1);
+   }
+
+   private int checkSlot(int slot) {
+      if (slot < 0 || slot >= size) {
+         throw new IndexOutOfBoundsException("No account in slot " + slot);
+      }
+      return slot;
+   }
+
+   private long checkedBalance(int slot, long balance, long units) {
+      long result = Math.addExact(balance, units);
+      if (units < 0 && result < 0) {
+         throw new BusinessException("INSUFFICIENT_FUNDS", "Insufficient funds in account " + accounts[slot].getId(),
+            "The balance is " + Money.of(balance, scale) + " and the debit " + Money.of(-units, scale),
+            HttpStatus.CONFLICT);
+      }
+      return result;
+   }
+
+   private long toUnits(double amount) {
+      return toUnits(Money.of(BigDecimal.valueOf(amount).setScale(scale, RoundingMode.HALF_EVEN), scale));
+   }
+
+   // Fails if the amount has more decimals than the ledger
+   private long toUnits(Money amount) {
+      if (amount.scale() > scale) {
+         return Money.of(amount.toBigDecimal(), scale).units();
+      }
+      return Money.rescale(amount.units(), amount.scale(), scale);
+   }
+
+   /**
+    * Postings to apply together with {@link #apply(Batch)}, identified by slot. Not thread-safe: one per thread,
+    * cleared and reused, so posting batches doesn't allocate either.
+    */
+   public static final class Batch {
+      private int[] postedSlots = new int[8];
+      private long[] postedUnits = new long[8];
+      private int size;
+
+      // Filled by merge: one entry per account, in slot order
+      private int[] mergedSlots = new int[8];
+      private long[] mergedUnits = new long[8];
+      private long[] newBalances = new long[8];
+      private long[] sortKeys = new long[8];
+
+      public Batch post(int slot, long units) {
+         if (size == postedSlots.length) {
+            postedSlots = Arrays.copyOf(postedSlots, size * 2);
+            postedUnits = Arrays.copyOf(postedUnits, size * 2);
+         }
+         postedSlots[size] = slot;
+         postedUnits[size] = units;
+         size++;
+         return this;
+      }
+
+      public Batch transfer(int fromSlot, int toSlot, long units) {
+         if (units <= 0) {
+            throw new IllegalArgumentException("A transfer must be positive: " + units);
+         }
+         return post(fromSlot, -units).post(toSlot, units);
+      }
+
+      public int size() {
+         return size;
+      }
+
+      public Batch clear() {
+         size = 0;
+         return this;
+      }
+
+      // Sorts the postings by slot (slot and position packed in a long) and adds up those of the same slot
+      private int merge() {
+         if (sortKeys.length < size) {
+            sortKeys = new long[postedSlots.length];
+            mergedSlots = new int[postedSlots.length];
+            mergedUnits = new long[postedSlots.length];
+            newBalances = new long[postedSlots.length];
+         }
+         for (int i = 0; i < size; i++) {
+            sortKeys[i] = (long) postedSlots[i] << 32 | i;
+         }
+         Arrays.sort(sortKeys, 0, size);
+         int merged = -1;
+         for (int i = 0; i < size; i++) {
+            int position = (int) sortKeys[i];
+            int slot = postedSlots[position];
+            if (merged >= 0 && mergedSlots[merged] == slot) {
+               mergedUnits[merged] = Math.addExact(mergedUnits[merged], postedUnits[position]);
+            } else {
+               merged++;
+               mergedSlots[merged] = slot;
+               mergedUnits[merged] = postedUnits[position];
+            }
+         }
+         return merged + 1;
+      }
+   }
+}
@@ -0,0 +1,63 @@
+package com.technologyos.functional.utils.ledger;
+
+import com.technologyos.functional.exceptions.BusinessException;
+import com.technologyos.functional.models.Account;
+import com.technologyos.functional.models.Money;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The balances of a {@link Ledger} at one instant: every batch is in it entirely or not at all, so the
+ * total is the same in every snapshot while there are only transfers. Accounts opened later are not in it.
+ */
+public final class LedgerSnapshot {
+   private final Account[] accounts;
+   private final long[] balances;
+   private final Map<String, Integer> slotsById;
+   private final int scale;
+
+   LedgerSnapshot(Account[] accounts, long[] balances, Map<String, Integer> slotsById, int scale) {
+      this.accounts = accounts;
+      this.balances = balances;
+      this.slotsById = slotsById;
+      this.scale = scale;
+   }
+
+   public int size() {
+      return balances.length;
+   }
+
+   public Money balance(String accountId) {
+      return Money.of(balances[slotOf(accountId)], scale);
+   }
+
+   public Account account(String accountId) {
+      int slot = slotOf(accountId);
+      return Ledger.view(accounts[slot], balances[slot], scale);
+   }
+
+   // The Accounts are created as the stream is consumed
+   public Stream<Account> accounts() {
+      return IntStream.range(0, balances.length).mapToObj(slot -> Ledger.view(accounts[slot], balances[slot], scale));
+   }
+
+   public Money total() {
+      long total = 0;
+      for (long balance : balances) {
+         total = Math.addExact(total, balance);
+      }
+      return Money.of(total, scale);
+   }
+
+   private int slotOf(String accountId) {
+      Integer slot = slotsById.get(accountId);
+      if (slot == null || slot >= balances.length) {
+         throw new BusinessException("ACCOUNT_NOT_FOUND", "Account not found: " + accountId,
+            "The account was not open when the snapshot was taken", HttpStatus.NOT_FOUND);
+      }
+      return slot;
+   }
+}
@@ -0,0 +1,138 @@
+package com.technologyos.functional.utils.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes the log events from a background thread, so logging costs the caller one CAS on a ring buffer.
+ *
+ * The writer takes up to batchSize events at a time, formats them into one buffer and writes them to
+ * the output with a single write and flush. When the ring buffer is full the event is dropped instead of
+ * making the caller wait, and the number of dropped events is written with the next batch.
+ * When there is nothing to write the writer parks, and the next append() wakes it up.
+ */
+public final class AsyncAppender implements AutoCloseable {
+   public static final int DEFAULT_CAPACITY = 16 * 1024;
+   public static final int DEFAULT_BATCH_SIZE = 512;
+
+   private static final DateTimeFormatter TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+   private final RingBuffer<LogEvent> buffer;
+   private final OutputStream output;
+   private final int batchSize;
+   private final Thread writer;
+   private final StringBuilder text = new StringBuilder(64 * 1024);
+   private final LongAdder dropped = new LongAdder();
+   private final LongAdder written = new LongAdder();
+   private volatile boolean closed;
+   // Set by the writer before it checks the buffer one last time and parks
+   private volatile boolean parked;
+
+   public AsyncAppender(OutputStream output) {
+      this(output, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+   }
+
+   // The capacity must be a power of two
+   public AsyncAppender(OutputStream output, int capacity, int batchSize) {
+      if (batchSize <= 0) {
+         throw new IllegalArgumentException("The batch size must be positive");
+      }
+      this.buffer = new RingBuffer<>(capacity);
+      this.output = output;
+      this.batchSize = batchSize;
+      this.writer = new Thread(this::writeLoop, "async-log-appender");
+      this.writer.setDaemon(true);
+      this.writer.start();
+   }
+
+   // Never blocks; returns false when the event was dropped
+   public boolean append(LogEvent event) {
+      if (closed || !buffer.offer(event)) {
+         dropped.increment();
+         return false;
+      }
+      // The writer sets parked before checking the buffer, so either it sees the event or we see parked
+      if (parked) {
+         LockSupport.unpark(writer);
+      }
+      return true;
+   }
+
+   public long dropped() {
+      return dropped.sum();
+   }
+
+   public long written() {
+      return written.sum();
+   }
+
+   // Writes what is still in the buffer and stops the writer thread
+   @Override
+   public void close() {
+      if (closed) {
+         return;
+      }
+      closed = true;
+      LockSupport.unpark(writer);
+      try {
+         writer.join();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private void writeLoop() {
+      long reportedDrops = 0;
+      while (!closed || !buffer.isEmpty()) {
+         int count = buffer.drainTo(this::format, batchSize);
+         long drops = dropped.sum();
+         if (drops > reportedDrops) {
+            text.append("WARN  ").append(drops - reportedDrops).append(" log messages were dropped, the buffer was full\n");
+            reportedDrops = drops;
+         }
+         if (text.length() > 0) {
+            write();
+            written.add(count);
+         } else if (count == 0 && !closed) {
+            parked = true;
+            if (buffer.isEmpty() && !closed) {
+               LockSupport.park(this);
+            }
+            parked = false;
+         }
+      }
+   }
+
+   private void format(LogEvent event) {
+      text.append(TIME_FORMAT.format(Instant.ofEpochMilli(event.timestamp())))
+         .append(' ').append(event.level())
+         .append(" [").append(event.thread()).append("] ")
+         .append(event.logger()).append(" - ")
+         .append(event.message()).append('\n');
+      if (event.error() != null) {
+         StringWriter stackTrace = new StringWriter();
+         event.error().printStackTrace(new PrintWriter(stackTrace));
+         text.append(stackTrace);
+      }
+   }
+
+   private void write() {
+      try {
+         output.write(text.toString().getBytes(StandardCharsets.UTF_8));
+         output.flush();
+      } catch (IOException e) {
+         // Nowhere left to report it; the events are lost like the dropped ones
+      } finally {
+         text.setLength(0);
+      }
+   }
+}
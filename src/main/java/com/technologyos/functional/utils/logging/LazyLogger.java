@@ -0,0 +1,98 @@
+package com.technologyos.functional.utils.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * A logger whose messages are Suppliers: logger.info(() -> "Total: " + total) only builds the String
+ * when INFO is enabled, instead of always concatenating like logger.info("Total: " + total).
+ *
+ * The message is built on the calling thread (so it sees the values as they are at the call),
+ * then formatting and writing happen on the {@link AsyncAppender} thread.
+ *
+ * The level comes from the functional.log.level system property (INFO by default) and can be
+ * changed per logger with setLevel().
+ */
+public final class LazyLogger {
+   private static final Level DEFAULT_LEVEL =
+      Level.valueOf(System.getProperty("functional.log.level", Level.INFO.name()).toUpperCase());
+
+   private static volatile AsyncAppender appender = newDefaultAppender();
+
+   private final String name;
+   private volatile Level level = DEFAULT_LEVEL;
+
+   private LazyLogger(String name) {
+      this.name = name;
+   }
+
+   public static LazyLogger getLogger(Class<?> type) {
+      return new LazyLogger(type.getSimpleName());
+   }
+
+   public static LazyLogger getLogger(String name) {
+      return new LazyLogger(name);
+   }
+
+   // Replaces the appender used by every logger, closing the previous one
+   public static void setAppender(AsyncAppender newAppender) {
+      AsyncAppender previous = appender;
+      appender = newAppender;
+      previous.close();
+   }
+
+   public static AsyncAppender appender() {
+      return appender;
+   }
+
+   public void setLevel(Level level) {
+      this.level = level;
+   }
+
+   public boolean isEnabled(Level messageLevel) {
+      return messageLevel != Level.OFF && messageLevel.compareTo(level) >= 0;
+   }
+
+   public void trace(Supplier<String> message) {
+      log(Level.TRACE, message, null);
+   }
+
+   public void debug(Supplier<String> message) {
+      log(Level.DEBUG, message, null);
+   }
+
+   public void info(Supplier<String> message) {
+      log(Level.INFO, message, null);
+   }
+
+   // Constant messages have nothing to build, they don't need a Supplier
+   public void info(String message) {
+      if (isEnabled(Level.INFO)) {
+         append(Level.INFO, message, null);
+      }
+   }
+
+   public void warn(Supplier<String> message) {
+      log(Level.WARN, message, null);
+   }
+
+   public void error(Supplier<String> message, Throwable error) {
+      log(Level.ERROR, message, error);
+   }
+
+   public void log(Level messageLevel, Supplier<String> message, Throwable error) {
+      if (isEnabled(messageLevel)) {
+         append(messageLevel, message.get(), error);
+      }
+   }
+
+   private void append(Level messageLevel, String message, Throwable error) {
+      appender.append(new LogEvent(System.currentTimeMillis(), messageLevel, name,
+         Thread.currentThread().getName(), message, error));
+   }
+
+   private static AsyncAppender newDefaultAppender() {
+      AsyncAppender defaultAppender = new AsyncAppender(System.out);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> appender.close(), "async-log-appender-shutdown"));
+      return defaultAppender;
+   }
+}
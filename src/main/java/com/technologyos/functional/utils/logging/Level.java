@@ -0,0 +1,5 @@
+package com.technologyos.functional.utils.logging;
+
+public enum Level {
+   TRACE, DEBUG, INFO, WARN, ERROR, OFF
+}
@@ -0,0 +1,6 @@
+package com.technologyos.functional.utils.logging;
+
+/**
+ * A message that was enabled and already built, waiting to be written by the appender.
+ */
+public record LogEvent(long timestamp, Level level, String logger, String thread, String message, Throwable error) {}
@@ -0,0 +1,78 @@
+package com.technologyos.functional.utils.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded lock-free queue for many producers and one consumer.
+ *
+ * Producers claim a position with a CAS on the tail; every slot has a sequence number that tells whether
+ * it is free for the position being claimed or holds an element ready to be read. offer() never blocks:
+ * when the buffer is full it returns false right away.
+ */
+final class RingBuffer<E> {
+   private final Object[] elements;
+   private final AtomicLongArray sequences;
+   private final int mask;
+   private final AtomicLong tail = new AtomicLong();
+   // Only touched by the consumer
+   private long head;
+
+   RingBuffer(int capacity) {
+      if (capacity <= 1 || Integer.bitCount(capacity) != 1) {
+         throw new IllegalArgumentException("The capacity must be a power of two greater than 1: " + capacity);
+      }
+      this.elements = new Object[capacity];
+      this.sequences = new AtomicLongArray(capacity);
+      this.mask = capacity - 1;
+      for (int i = 0; i < capacity; i++) {
+         sequences.set(i, i);
+      }
+   }
+
+   boolean offer(E element) {
+      long position;
+      int index;
+      while (true) {
+         position = tail.get();
+         index = (int) position & mask;
+         long difference = sequences.get(index) - position;
+         if (difference == 0) {
+            if (tail.compareAndSet(position, position + 1)) {
+               break;
+            }
+         } else if (difference < 0) {
+            // The slot still holds an element from one lap ago: the buffer is full
+            return false;
+         }
+      }
+      elements[index] = element;
+      // Publishes the element: the consumer reads the sequence before the element
+      sequences.set(index, position + 1);
+      return true;
+   }
+
+   // Called by the single consumer only
+   @SuppressWarnings("unchecked")
+   int drainTo(Consumer<? super E> consumer, int max) {
+      int drained = 0;
+      while (drained < max) {
+         int index = (int) head & mask;
+         if (sequences.get(index) != head + 1) {
+            break;
+         }
+         E element = (E) elements[index];
+         elements[index] = null;
+         sequences.set(index, head + elements.length);
+         head++;
+         drained++;
+         consumer.accept(element);
+      }
+      return drained;
+   }
+
+   boolean isEmpty() {
+      return sequences.get((int) head & mask) != head + 1;
+   }
+}
@@ -0,0 +1,85 @@
+package com.technologyos.functional.utils.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Registry of the stages of the instrumented pipelines, by pipeline and stage name.
+ *
+ * Building the same pipeline again (for example on every request) reuses its stages, so the counters
+ * accumulate across runs. Only 1 in sampleRate calls of a stage is timed, to keep System.nanoTime()
+ * out of most calls.
+ */
+public final class PipelineMetrics {
+   public static final int DEFAULT_SAMPLE_RATE = 64;
+
+   private static final PipelineMetrics GLOBAL = new PipelineMetrics(DEFAULT_SAMPLE_RATE);
+
+   private record StageKey(String pipeline, String stage) {}
+
+   private final int sampleMask;
+   private final Map<StageKey, StageMetrics> stages = new ConcurrentHashMap<>();
+   private final AtomicInteger nextOrder = new AtomicInteger();
+   private final List<Consumer<StageMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+   /**
+    * @param sampleRate time 1 in sampleRate calls, a power of two (1 times every call)
+    */
+   public PipelineMetrics(int sampleRate) {
+      if (sampleRate <= 0 || Integer.bitCount(sampleRate) != 1) {
+         throw new IllegalArgumentException("The sample rate must be a power of two: " + sampleRate);
+      }
+      this.sampleMask = sampleRate - 1;
+   }
+
+   // The registry used by InstrumentedStream.of(name, stream) and exposed by the actuator endpoint
+   public static PipelineMetrics global() {
+      return GLOBAL;
+   }
+
+   // The listeners are called after the insert, outside the lock of the map
+   public StageMetrics stage(String pipeline, String stage) {
+      StageKey key = new StageKey(pipeline, stage);
+      StageMetrics existing = stages.get(key);
+      if (existing != null) {
+         return existing;
+      }
+      StageMetrics created = new StageMetrics(pipeline, stage, nextOrder.getAndIncrement(), sampleMask);
+      existing = stages.putIfAbsent(key, created);
+      if (existing != null) {
+         return existing;
+      }
+      listeners.forEach(listener -> listener.accept(created));
+      return created;
+   }
+
+   // Called with every stage already registered and then with every new one
+   public void onStage(Consumer<StageMetrics> listener) {
+      listeners.add(listener);
+      stages.values().forEach(listener);
+   }
+
+   // Stages in the order they were registered, so the stages of a pipeline come in pipeline order
+   public List<StageStats> snapshot() {
+      return stages.values().stream()
+         .sorted(Comparator.comparingInt(StageMetrics::order))
+         .map(StageMetrics::snapshot)
+         .toList();
+   }
+
+   public List<StageStats> snapshot(String pipeline) {
+      return snapshot().stream()
+         .filter(stats -> stats.pipeline().equals(pipeline))
+         .toList();
+   }
+
+   // Zeroes the counters but keeps the stages, so what the listeners registered (the meters) stays attached
+   public void reset() {
+      stages.values().forEach(StageMetrics::reset);
+   }
+}
@@ -0,0 +1,78 @@
+package com.technologyos.functional.utils.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of one named stage. LongAdders keep parallel pipelines from contending on the counters.
+ */
+public final class StageMetrics {
+   private final String pipeline;
+   private final String stage;
+   private final int order;
+   private final int sampleMask;
+
+   private final LongAdder in = new LongAdder();
+   private final LongAdder out = new LongAdder();
+   private final LongAdder sampled = new LongAdder();
+   private final LongAdder sampledNanos = new LongAdder();
+
+   StageMetrics(String pipeline, String stage, int order, int sampleMask) {
+      this.pipeline = pipeline;
+      this.stage = stage;
+      this.order = order;
+      this.sampleMask = sampleMask;
+   }
+
+   public String pipeline() {
+      return pipeline;
+   }
+
+   public String stage() {
+      return stage;
+   }
+
+   int order() {
+      return order;
+   }
+
+   // A random draw instead of a shared counter, so deciding to sample doesn't contend either
+   boolean shouldSample() {
+      return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0;
+   }
+
+   void recordIn() {
+      in.increment();
+   }
+
+   void recordOut() {
+      out.increment();
+   }
+
+   void recordTime(long nanos) {
+      sampled.increment();
+      sampledNanos.add(nanos);
+   }
+
+   public long in() {
+      return in.sum();
+   }
+
+   public long out() {
+      return out.sum();
+   }
+
+   // Not atomic: calls that run during the reset may be counted or not
+   void reset() {
+      in.reset();
+      out.reset();
+      sampled.reset();
+      sampledNanos.reset();
+   }
+
+   public StageStats snapshot() {
+      long samples = sampled.sum();
+      double average = samples == 0 ? 0 : (double) sampledNanos.sum() / samples;
+      return new StageStats(pipeline, stage, in.sum(), out.sum(), samples, average);
+   }
+}
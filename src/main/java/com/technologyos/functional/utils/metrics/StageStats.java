@@ -0,0 +1,22 @@
+package com.technologyos.functional.utils.metrics;
+
+/**
+ * A snapshot of one stage of an instrumented pipeline.
+ *
+ * @param in           elements that reached the stage
+ * @param out          elements the stage passed on (lower than in for a filter)
+ * @param sampled      calls that were timed
+ * @param averageNanos average time of a call of the stage, from the sampled calls
+ */
+public record StageStats(String pipeline, String stage, long in, long out, long sampled, double averageNanos) {
+
+   // Fraction of the elements that passed the stage, 1.0 for a map
+   public double selectivity() {
+      return in == 0 ? 1.0 : (double) out / in;
+   }
+
+   // Time spent in the stage extrapolated to every element, not only the sampled ones
+   public double estimatedTotalNanos() {
+      return averageNanos * in;
+   }
+}
@@ -0,0 +1,125 @@
+package com.technologyos.functional.utils.money;
+
+import com.technologyos.functional.models.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Collectors of {@link Money} that accumulate in a long per container, like Collectors.summingLong,
+ * instead of creating a BigDecimal (or a Money) per element like reduce(BigDecimal.ZERO, BigDecimal::add).
+ * Only the result is created when the collection finishes.
+ *
+ * They work on parallel streams: every thread accumulates its own container and the combiner adds them
+ * up, with the same overflow checks. Amounts of different scales are aligned to the biggest one.
+ *
+ * <pre>
+ * Money payroll = employees.parallelStream().collect(MoneyCollectors.summing(Employee::getSalary));
+ * </pre>
+ */
+public final class MoneyCollectors {
+
+   private MoneyCollectors() {}
+
+   public static <T> Collector<T, ?, Money> summing(Function<? super T, Money> amount) {
+      return Collector.of(Sum::new, (sum, element) -> sum.add(amount.apply(element)), Sum::combine, Sum::total);
+   }
+
+   // Rounded HALF_EVEN to the scale of the amounts. ZERO when there are no elements, like Collectors.averagingLong
+   public static <T> Collector<T, ?, Money> averaging(Function<? super T, Money> amount) {
+      return Collector.of(Sum::new, (sum, element) -> sum.add(amount.apply(element)), Sum::combine, Sum::average);
+   }
+
+   public static <T> Collector<T, ?, Optional<Money>> minimum(Function<? super T, Money> amount) {
+      return Collector.of(Statistics::new, (statistics, element) -> statistics.add(amount.apply(element)),
+         Statistics::combine, statistics -> Optional.ofNullable(statistics.min));
+   }
+
+   public static <T> Collector<T, ?, Optional<Money>> maximum(Function<? super T, Money> amount) {
+      return Collector.of(Statistics::new, (statistics, element) -> statistics.add(amount.apply(element)),
+         Statistics::combine, statistics -> Optional.ofNullable(statistics.max));
+   }
+
+   public static <T> Collector<T, ?, MoneyStatistics> summarizing(Function<? super T, Money> amount) {
+      return Collector.of(Statistics::new, (statistics, element) -> statistics.add(amount.apply(element)),
+         Statistics::combine, Statistics::toStatistics);
+   }
+
+   // One long accumulator per key: the only allocations are the map entries
+   public static <T, K> Collector<T, ?, Map<K, Money>> groupingSum(Function<? super T, ? extends K> classifier,
+                                                                  Function<? super T, Money> amount) {
+      return Collectors.groupingBy(classifier, summing(amount));
+   }
+
+   private static class Sum {
+      long units;
+      int scale;
+      long count;
+
+      void add(Money amount) {
+         add(amount.units(), amount.scale(), 1);
+      }
+
+      void add(long otherUnits, int otherScale, long otherCount) {
+         if (otherScale > scale) {
+            units = Money.rescale(units, scale, otherScale);
+            scale = otherScale;
+         }
+         units = Math.addExact(units, Money.rescale(otherUnits, otherScale, scale));
+         count += otherCount;
+      }
+
+      Sum combine(Sum other) {
+         add(other.units, other.scale, other.count);
+         return this;
+      }
+
+      Money total() {
+         return Money.of(units, scale);
+      }
+
+      Money average() {
+         if (count == 0) {
+            return Money.ZERO;
+         }
+         return Money.of(BigDecimal.valueOf(units, scale).divide(BigDecimal.valueOf(count), scale, RoundingMode.HALF_EVEN), scale);
+      }
+   }
+
+   // min and max keep the elements themselves, so they don't allocate either
+   private static final class Statistics extends Sum {
+      Money min;
+      Money max;
+
+      @Override
+      void add(Money amount) {
+         super.add(amount);
+         if (min == null || amount.compareTo(min) < 0) {
+            min = amount;
+         }
+         if (max == null || amount.compareTo(max) > 0) {
+            max = amount;
+         }
+      }
+
+      Statistics combine(Statistics other) {
+         super.combine(other);
+         if (other.min != null && (min == null || other.min.compareTo(min) < 0)) {
+            min = other.min;
+         }
+         if (other.max != null && (max == null || other.max.compareTo(max) > 0)) {
+            max = other.max;
+         }
+         return this;
+      }
+
+      MoneyStatistics toStatistics() {
+         return new MoneyStatistics(count, total(), average(), min, max);
+      }
+   }
+}
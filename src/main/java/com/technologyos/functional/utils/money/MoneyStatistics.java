@@ -0,0 +1,8 @@
+package com.technologyos.functional.utils.money;
+
+import com.technologyos.functional.models.Money;
+
+/**
+ * The result of {@link MoneyCollectors#summarizing}. min and max are null when count is 0.
+ */
+public record MoneyStatistics(long count, Money sum, Money average, Money min, Money max) {}
@@ -0,0 +1,79 @@
+package com.technologyos.functional.utils.optional;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Fused Optional operations: filter, map and orElse in a single call.
+ *
+ * optional.filter(p).map(f).orElse(other) creates an Optional for every step, and whether the JIT removes
+ * them depends on inlining (see OptionalBenchmark). filterMapOrElse(optional, p, f, other) gives the same
+ * result without creating any, and the nullable versions don't even need the first Optional.
+ * As with Optional.map, a mapper returning null gives other.
+ */
+public final class Optionals {
+
+   private Optionals() {}
+
+   public static <T, R> R filterMapOrElse(Optional<T> optional, Predicate<? super T> filter,
+                                          Function<? super T, ? extends R> mapper, R other) {
+      return nullableFilterMapOrElse(optional.orElse(null), filter, mapper, other);
+   }
+
+   // The same for a value that may be null, the usual case at the boundary with non-Optional code
+   public static <T, R> R nullableFilterMapOrElse(T nullable, Predicate<? super T> filter,
+                                                  Function<? super T, ? extends R> mapper, R other) {
+      if (nullable == null || !filter.test(nullable)) {
+         return other;
+      }
+      R result = mapper.apply(nullable);
+      return result != null ? result : other;
+   }
+
+   public static <T, R> R mapOrElse(Optional<T> optional, Function<? super T, ? extends R> mapper, R other) {
+      return nullableMapOrElse(optional.orElse(null), mapper, other);
+   }
+
+   public static <T, R> R nullableMapOrElse(T nullable, Function<? super T, ? extends R> mapper, R other) {
+      if (nullable == null) {
+         return other;
+      }
+      R result = mapper.apply(nullable);
+      return result != null ? result : other;
+   }
+
+   public static <R> R filterMapOrElse(OptionalInt optional, IntPredicate filter, IntFunction<? extends R> mapper, R other) {
+      if (optional.isEmpty() || !filter.test(optional.getAsInt())) {
+         return other;
+      }
+      R result = mapper.apply(optional.getAsInt());
+      return result != null ? result : other;
+   }
+
+   public static <R> R filterMapOrElse(OptionalLong optional, LongPredicate filter, LongFunction<? extends R> mapper, R other) {
+      if (optional.isEmpty() || !filter.test(optional.getAsLong())) {
+         return other;
+      }
+      R result = mapper.apply(optional.getAsLong());
+      return result != null ? result : other;
+   }
+
+   public static <R> R filterMapOrElse(OptionalDouble optional, DoublePredicate filter, DoubleFunction<? extends R> mapper,
+                                       R other) {
+      if (optional.isEmpty() || !filter.test(optional.getAsDouble())) {
+         return other;
+      }
+      R result = mapper.apply(optional.getAsDouble());
+      return result != null ? result : other;
+   }
+}
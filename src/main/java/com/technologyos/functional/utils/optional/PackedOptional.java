@@ -0,0 +1,67 @@
+package com.technologyos.functional.utils.optional;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An optional int packed in a long: the low 32 bits hold the value and bit 32 says whether it is present.
+ *
+ * A long lives in a register or a local variable, so creating, passing and returning these optionals
+ * never allocates, whatever the JIT decides to inline, while OptionalInt.of allocates like Optional.of.
+ *
+ * Only int is supported, so a packed value can't be read back as another type. char, short and byte
+ * widen to int without loss and can be packed with {@link #ofInt}. The other primitives are not supported:
+ * long and double use all 64 bits and need a separate presence flag, use OptionalLong / OptionalDouble with
+ * {@link Optionals}; for float use OptionalDouble; for boolean a nullable Boolean never allocates either,
+ * since Boolean.valueOf returns one of two cached instances.
+ */
+public final class PackedOptional {
+   public static final long EMPTY = 0L;
+
+   private static final long PRESENT = 1L << 32;
+   private static final long VALUE_MASK = 0xFFFF_FFFFL;
+
+   private PackedOptional() {}
+
+   public static long ofInt(int value) {
+      return PRESENT | (value & VALUE_MASK);
+   }
+
+   public static boolean isPresent(long packed) {
+      return (packed & PRESENT) != 0;
+   }
+
+   public static boolean isEmpty(long packed) {
+      return !isPresent(packed);
+   }
+
+   public static int getInt(long packed) {
+      checkPresent(packed);
+      return (int) packed;
+   }
+
+   public static int intOrElse(long packed, int other) {
+      return isPresent(packed) ? (int) packed : other;
+   }
+
+   // Keeps the int value only if it matches the filter
+   public static long filterInt(long packed, IntPredicate filter) {
+      return isPresent(packed) && filter.test((int) packed) ? packed : EMPTY;
+   }
+
+   public static long mapInt(long packed, IntUnaryOperator mapper) {
+      return isPresent(packed) ? ofInt(mapper.applyAsInt((int) packed)) : EMPTY;
+   }
+
+   // filter, map and orElse in one call, for the int value
+   public static int filterMapOrElse(long packed, IntPredicate filter, IntUnaryOperator mapper, int other) {
+      return isPresent(packed) && filter.test((int) packed) ? mapper.applyAsInt((int) packed) : other;
+   }
+
+   private static void checkPresent(long packed) {
+      if (isEmpty(packed)) {
+         throw new NoSuchElementException("No value present");
+      }
+   }
+}
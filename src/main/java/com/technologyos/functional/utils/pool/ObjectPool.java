@@ -0,0 +1,137 @@
+package com.technologyos.functional.utils.pool;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of expensive objects (connections, parsers, buffers...).
+ *
+ * Objects are created lazily by the factory, up to maxSize, and handed back to the pool after use
+ * so the next caller reuses them instead of building a new one. The most recently released object
+ * is reused first, since it is the most likely to still be warm.
+ * When every object is in use, callers wait up to maxWait for one to be released, then get a
+ * {@link PoolExhaustedException}.
+ */
+public final class ObjectPool<T> implements AutoCloseable {
+   private final Supplier<? extends T> factory;
+   private final Consumer<? super T> destroyer;
+   private final long maxWaitNanos;
+   private final Semaphore permits;
+   private final Deque<T> idle = new ConcurrentLinkedDeque<>();
+
+   private final AtomicInteger active = new AtomicInteger();
+   private final AtomicInteger idleCount = new AtomicInteger();
+   private final LongAdder created = new LongAdder();
+   private final LongAdder borrows = new LongAdder();
+   private final LongAdder timeouts = new LongAdder();
+   private final LongAdder totalWaitNanos = new LongAdder();
+   private final AtomicLong maxWaitNanosSeen = new AtomicLong();
+   private volatile boolean closed;
+
+   public ObjectPool(Supplier<? extends T> factory, int maxSize, Duration maxWait) {
+      this(factory, maxSize, maxWait, object -> {});
+   }
+
+   // The destroyer is called for the idle objects when the pool is closed (e.g. to close a connection)
+   public ObjectPool(Supplier<? extends T> factory, int maxSize, Duration maxWait, Consumer<? super T> destroyer) {
+      if (maxSize <= 0) {
+         throw new IllegalArgumentException("Pool size must be positive");
+      }
+      this.factory = factory;
+      this.destroyer = destroyer;
+      this.maxWaitNanos = maxWait.toNanos();
+      this.permits = new Semaphore(maxSize);
+   }
+
+   /**
+    * Takes an object out of the pool, creating it if none is idle.
+    * It must be given back with release(), the easiest way is to use withObject().
+    */
+   public T borrow() {
+      if (closed) {
+         throw new IllegalStateException("The pool is closed");
+      }
+
+      long start = System.nanoTime();
+      acquirePermit();
+      recordWait(System.nanoTime() - start);
+
+      T object = idle.pollFirst();
+      if (object != null) {
+         idleCount.decrementAndGet();
+      } else {
+         try {
+            object = factory.get();
+            created.increment();
+         } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+         }
+      }
+      active.incrementAndGet();
+      return object;
+   }
+
+   public void release(T object) {
+      active.decrementAndGet();
+      if (closed) {
+         destroyer.accept(object);
+      } else {
+         idle.offerFirst(object);
+         idleCount.incrementAndGet();
+      }
+      permits.release();
+   }
+
+   // Borrows an object, uses it and always gives it back
+   public <R> R withObject(Function<? super T, ? extends R> action) {
+      T object = borrow();
+      try {
+         return action.apply(object);
+      } finally {
+         release(object);
+      }
+   }
+
+   public PoolMetrics metrics() {
+      return new PoolMetrics(active.get(), idleCount.get(), created.sum(), borrows.sum(), timeouts.sum(),
+         totalWaitNanos.sum(), maxWaitNanosSeen.get());
+   }
+
+   @Override
+   public void close() {
+      closed = true;
+      T object;
+      while ((object = idle.pollFirst()) != null) {
+         idleCount.decrementAndGet();
+         destroyer.accept(object);
+      }
+   }
+
+   private void acquirePermit() {
+      try {
+         if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            timeouts.increment();
+            throw new PoolExhaustedException(Duration.ofNanos(maxWaitNanos));
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for a pooled object", e);
+      }
+   }
+
+   private void recordWait(long waitNanos) {
+      borrows.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanosSeen.accumulateAndGet(waitNanos, Math::max);
+   }
+}
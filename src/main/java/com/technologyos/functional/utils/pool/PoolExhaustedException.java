@@ -0,0 +1,19 @@
+package com.technologyos.functional.utils.pool;
+
+import java.time.Duration;
+
+/**
+ * Thrown by {@link ObjectPool#borrow()} when no object was released within maxWait.
+ */
+public class PoolExhaustedException extends RuntimeException {
+   private final Duration maxWait;
+
+   public PoolExhaustedException(Duration maxWait) {
+      super("No pooled object available after waiting " + maxWait);
+      this.maxWait = maxWait;
+   }
+
+   public Duration getMaxWait() {
+      return maxWait;
+   }
+}
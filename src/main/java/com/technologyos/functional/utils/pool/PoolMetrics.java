@@ -0,0 +1,19 @@
+package com.technologyos.functional.utils.pool;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of an {@link ObjectPool}: how many objects are in use, how many are waiting to be reused,
+ * and how long callers had to wait to get one.
+ */
+public record PoolMetrics(int active, int idle, long created, long borrows, long timeouts,
+                          long totalWaitNanos, long maxWaitNanos) {
+
+   public Duration averageWait() {
+      return borrows == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / borrows);
+   }
+
+   public Duration maxWait() {
+      return Duration.ofNanos(maxWaitNanos);
+   }
+}
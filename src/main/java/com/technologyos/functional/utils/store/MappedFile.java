@@ -0,0 +1,71 @@
+package com.technologyos.functional.utils.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file mapped read-write that grows by doubling. A MappedByteBuffer is limited to 2GB, so is the file.
+ *
+ * Growing maps the file again; the previous mapping stays valid (the file only grows) and is released by
+ * the GC, there is no public API to unmap it on Java 17.
+ */
+final class MappedFile implements Closeable {
+   static final long MAX_SIZE = Integer.MAX_VALUE;
+
+   private final Path path;
+   private final FileChannel channel;
+   private MappedByteBuffer buffer;
+
+   MappedFile(Path path, long initialSize) throws IOException {
+      this.path = path;
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      map(Math.max(channel.size(), initialSize));
+   }
+
+   MappedByteBuffer buffer() {
+      return buffer;
+   }
+
+   long size() {
+      return buffer.capacity();
+   }
+
+   void ensureCapacity(long bytes) {
+      if (bytes <= size()) {
+         return;
+      }
+      if (bytes > MAX_SIZE) {
+         throw new IllegalStateException(path.getFileName() + " can't grow over 2GB");
+      }
+      long newSize = size();
+      while (newSize < bytes) {
+         newSize = Math.min(newSize * 2, MAX_SIZE);
+      }
+      try {
+         map(newSize);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   void force() {
+      buffer.force();
+   }
+
+   @Override
+   public void close() throws IOException {
+      channel.close();
+   }
+
+   // Mapping past the end of the file extends it
+   private void map(long size) throws IOException {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+   }
+}
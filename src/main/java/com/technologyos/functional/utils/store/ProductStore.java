@@ -0,0 +1,325 @@
+package com.technologyos.functional.utils.store;
+
+import com.technologyos.functional.interfaces.DatabaseService;
+import com.technologyos.functional.models.Money;
+import com.technologyos.functional.models.Product;
+import com.technologyos.functional.utils.stream.Sequences;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Products stored by column in memory-mapped files, off the heap: millions of them cost the GC nothing,
+ * and opening an existing store only maps its files, nothing is read or rebuilt.
+ *
+ * A directory holds one file per column, indexed by row:
+ * - ids.bin: the product id (long)
+ * - prices.bin / scales.bin: the price as Money units (long) and scale (byte, -1 for no price)
+ * - names.bin: where the name is in the arena, offset and length packed in a long
+ * - arena.bin: the names, UTF-8 encoded one after another
+ * - index.bin: open-addressing hash table from id to row (linear probing, 16 bytes per slot)
+ * - meta.bin: row count, arena size and index capacity
+ *
+ * getById hashes the id and probes the mapped table: no boxing and no object until the Product is built.
+ * {@link #stream()} builds the Products only as they are consumed, and column scans like
+ * {@link #totalPrice()} don't build them at all.
+ *
+ * A row is written before the count that makes it visible, so if the process dies in the middle of a put
+ * the store opens without it. The OS writes the pages back when it likes; call {@link #force()} to make
+ * them durable against a crash of the machine. Renaming a product appends the new name, the old bytes
+ * stay in the arena. Each file is limited to 2GB (about 268 million rows).
+ *
+ * Not thread-safe: writes must be confined to one thread. A store that is only read can be shared.
+ * Rows are not ordered by id, so it is not a PagedDatabaseService: use stream().
+ */
+public final class ProductStore implements DatabaseService<Product>, Closeable {
+   private static final int MAGIC = 0x50524F44;
+   private static final int VERSION = 1;
+
+   private static final int META_MAGIC = 0;
+   private static final int META_VERSION = 4;
+   private static final int META_COUNT = 8;
+   private static final int META_ARENA_SIZE = 16;
+   private static final int META_INDEX_CAPACITY = 24;
+   private static final int META_SIZE = 32;
+
+   private static final int INITIAL_ROWS = 1024;
+   private static final int SLOT_SIZE = 16;
+   private static final byte NO_PRICE = -1;
+   private static final int LENGTH_BITS = 24;
+   private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+   private static final long NO_NAME = LENGTH_MASK;
+
+   private final Path directory;
+   private final MappedFile meta;
+   private final MappedFile ids;
+   private final MappedFile prices;
+   private final MappedFile scales;
+   private final MappedFile names;
+   private final MappedFile arena;
+   private MappedFile index;
+   private long indexMask;
+   private int count;
+   private long arenaSize;
+
+   private ProductStore(Path directory) throws IOException {
+      this.directory = directory;
+      this.meta = new MappedFile(directory.resolve("meta.bin"), META_SIZE);
+      this.ids = new MappedFile(directory.resolve("ids.bin"), INITIAL_ROWS * 8L);
+      this.prices = new MappedFile(directory.resolve("prices.bin"), INITIAL_ROWS * 8L);
+      this.scales = new MappedFile(directory.resolve("scales.bin"), INITIAL_ROWS);
+      this.names = new MappedFile(directory.resolve("names.bin"), INITIAL_ROWS * 8L);
+      this.arena = new MappedFile(directory.resolve("arena.bin"), INITIAL_ROWS * 16L);
+   }
+
+   /**
+    * Opens the store in the directory, creating it if the directory has no store yet.
+    */
+   public static ProductStore open(Path directory) throws IOException {
+      Files.createDirectories(directory);
+      ProductStore store = new ProductStore(directory);
+      try {
+         store.load();
+      } catch (IOException | RuntimeException e) {
+         store.close();
+         throw e;
+      }
+      return store;
+   }
+
+   private void load() throws IOException {
+      int magic = meta.buffer().getInt(META_MAGIC);
+      if (magic == 0) {
+         meta.buffer().putInt(META_MAGIC, MAGIC).putInt(META_VERSION, VERSION);
+      } else if (magic != MAGIC || meta.buffer().getInt(META_VERSION) != VERSION) {
+         throw new IOException(directory + " doesn't contain a product store of version " + VERSION);
+      }
+      count = Math.toIntExact(meta.buffer().getLong(META_COUNT));
+      arenaSize = meta.buffer().getLong(META_ARENA_SIZE);
+      long capacity = meta.buffer().getLong(META_INDEX_CAPACITY);
+      if (capacity == 0) {
+         // new store, or the process died while the index was rebuilt
+         rebuildIndex(indexCapacityFor(Math.max(count, INITIAL_ROWS)));
+      } else {
+         index = new MappedFile(directory.resolve("index.bin"), capacity * SLOT_SIZE);
+         indexMask = capacity - 1;
+      }
+   }
+
+   public int size() {
+      return count;
+   }
+
+   public boolean contains(long id) {
+      return rowOf(id) >= 0;
+   }
+
+   @Override
+   public Product getById(Long id) {
+      int row = rowOf(id);
+      return row < 0 ? null : product(row);
+   }
+
+   @Override
+   public List<Product> getAllRecords() {
+      return stream().toList();
+   }
+
+   /**
+    * Adds the product, or replaces the product with the same id.
+    */
+   public void put(Product product) {
+      long id = Objects.requireNonNull(product.getProductId(), "productId");
+      int row = rowOf(id);
+      boolean added = row < 0;
+      if (added) {
+         row = count;
+         ensureRows(row + 1);
+         ids.buffer().putLong(row * 8, id);
+      }
+      Money price = product.getPrice();
+      prices.buffer().putLong(row * 8, price == null ? 0 : price.units());
+      scales.buffer().put(row, price == null ? NO_PRICE : (byte) price.scale());
+      names.buffer().putLong(row * 8, appendName(product.getName()));
+      if (added) {
+         ensureIndexCapacity(row + 1);
+         indexPut(id, row);
+         count = row + 1;
+         meta.buffer().putLong(META_COUNT, count);
+      }
+   }
+
+   public void putAll(Iterable<Product> products) {
+      products.forEach(this::put);
+   }
+
+   /**
+    * The products in insertion order. Each one is built when the stream gets to it, and the stream splits
+    * by rows for parallel processing. Products added while the stream runs are not included.
+    */
+   public Stream<Product> stream() {
+      return Sequences.counting(0, count).mapToObj(this::product);
+   }
+
+   // Sum of all the prices read straight from the columns, without building any Product
+   public Money totalPrice() {
+      long units = 0;
+      int scale = 0;
+      for (int row = 0; row < count; row++) {
+         byte rowScale = scales.buffer().get(row);
+         if (rowScale == NO_PRICE) {
+            continue;
+         }
+         if (rowScale > scale) {
+            units = Money.rescale(units, scale, rowScale);
+            scale = rowScale;
+         }
+         units = Math.addExact(units, Money.rescale(prices.buffer().getLong(row * 8), rowScale, scale));
+      }
+      return Money.of(units, scale);
+   }
+
+   // Writes the modified pages of every column to the storage device
+   public void force() {
+      for (MappedFile file : files()) {
+         file.force();
+      }
+   }
+
+   @Override
+   public void close() throws IOException {
+      IOException failure = null;
+      for (MappedFile file : files()) {
+         try {
+            file.close();
+         } catch (IOException e) {
+            failure = e;
+         }
+      }
+      if (failure != null) {
+         throw failure;
+      }
+   }
+
+   // meta last: it is what makes the rows visible
+   private List<MappedFile> files() {
+      return Stream.of(ids, prices, scales, names, arena, index, meta).filter(Objects::nonNull).toList();
+   }
+
+   private Product product(int row) {
+      return new Product(ids.buffer().getLong(row * 8), name(row), price(row));
+   }
+
+   private Money price(int row) {
+      byte scale = scales.buffer().get(row);
+      return scale == NO_PRICE ? null : Money.of(prices.buffer().getLong(row * 8), scale);
+   }
+
+   private String name(int row) {
+      long reference = names.buffer().getLong(row * 8);
+      if (reference == NO_NAME) {
+         return null;
+      }
+      byte[] bytes = new byte[(int) (reference & LENGTH_MASK)];
+      arena.buffer().get((int) (reference >>> LENGTH_BITS), bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+   }
+
+   private long appendName(String name) {
+      if (name == null) {
+         return NO_NAME;
+      }
+      byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+      if (bytes.length >= NO_NAME) {
+         throw new IllegalArgumentException("Product names are limited to " + (NO_NAME - 1) + " bytes");
+      }
+      arena.ensureCapacity(arenaSize + bytes.length);
+      arena.buffer().put((int) arenaSize, bytes);
+      long reference = arenaSize << LENGTH_BITS | bytes.length;
+      arenaSize += bytes.length;
+      meta.buffer().putLong(META_ARENA_SIZE, arenaSize);
+      return reference;
+   }
+
+   private void ensureRows(int rows) {
+      ids.ensureCapacity(rows * 8L);
+      prices.ensureCapacity(rows * 8L);
+      scales.ensureCapacity(rows);
+      names.ensureCapacity(rows * 8L);
+   }
+
+   /**
+    * The row of the id, or -1. A put that didn't finish can leave an entry pointing to the row after the
+    * last one; a later put fills that row with another id, so an entry only counts if the row holds its id.
+    */
+   private int rowOf(long id) {
+      for (long slot = hash(id) & indexMask; ; slot = (slot + 1) & indexMask) {
+         long rowPlusOne = index.buffer().getLong((int) (slot * SLOT_SIZE + 8));
+         if (rowPlusOne == 0) {
+            return -1;
+         }
+         if (index.buffer().getLong((int) (slot * SLOT_SIZE)) == id && rowPlusOne <= count
+            && ids.buffer().getLong((int) (rowPlusOne - 1) * 8) == id) {
+            return (int) (rowPlusOne - 1);
+         }
+      }
+   }
+
+   // Called for ids without a row, so the slot is empty or a leftover entry of the same id
+   private void indexPut(long id, int row) {
+      long slot = hash(id) & indexMask;
+      while (true) {
+         int position = (int) (slot * SLOT_SIZE);
+         if (index.buffer().getLong(position + 8) == 0 || index.buffer().getLong(position) == id) {
+            index.buffer().putLong(position, id).putLong(position + 8, row + 1L);
+            return;
+         }
+         slot = (slot + 1) & indexMask;
+      }
+   }
+
+   // At most half full, so the probes stay short
+   private void ensureIndexCapacity(int rows) {
+      if (rows * 2L > indexMask + 1) {
+         rebuildIndex(indexCapacityFor(rows));
+      }
+   }
+
+   private static long indexCapacityFor(int rows) {
+      return Long.highestOneBit(rows * 2L - 1) << 1;
+   }
+
+   private void rebuildIndex(long capacity) {
+      if (capacity * SLOT_SIZE > MappedFile.MAX_SIZE) {
+         throw new IllegalStateException("The index of " + directory + " can't grow over 2GB");
+      }
+      meta.buffer().putLong(META_INDEX_CAPACITY, 0);
+      try {
+         if (index != null) {
+            index.close();
+         }
+         Path path = directory.resolve("index.bin");
+         Files.deleteIfExists(path);
+         index = new MappedFile(path, capacity * SLOT_SIZE);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+      indexMask = capacity - 1;
+      for (int row = 0; row < count; row++) {
+         indexPut(ids.buffer().getLong(row * 8), row);
+      }
+      meta.buffer().putLong(META_INDEX_CAPACITY, capacity);
+   }
+
+   private static long hash(long id) {
+      long h = id * 0x9E3779B97F4A7C15L;
+      return h ^ (h >>> 32);
+   }
+}
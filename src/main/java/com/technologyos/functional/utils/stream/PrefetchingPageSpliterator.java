@@ -0,0 +1,166 @@
+package com.technologyos.functional.utils.stream;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily walks a keyset-paginated source page by page, fetching the next pages in the background.
+ *
+ * While the current page is consumed, up to readAhead following pages are being fetched on the executor.
+ * Each page needs the last key of the previous one, so the fetches are chained. A new fetch is only issued
+ * once the consumed page is released, so the memory used is bounded by (readAhead + 1) pages: the one being
+ * consumed and readAhead fetched or in flight, whatever the size of the source.
+ * Closing the stream, from any thread, cancels the fetches that did not start yet and ends the stream.
+ */
+public final class PrefetchingPageSpliterator<T, K> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+   // Page fetches usually block on I/O, so they get their own daemon threads instead of the common ForkJoinPool
+   private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "page-prefetcher");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   private final BiFunction<K, Integer, List<T>> pageFetcher;
+   private final Function<T, K> keyExtractor;
+   private final int pageSize;
+   private final int readAhead;
+   private final Executor executor;
+
+   // close() may be called from another thread while the consumer polls
+   private final Deque<CompletableFuture<Page<T, K>>> pending = new ConcurrentLinkedDeque<>();
+   private Iterator<T> current = Collections.emptyIterator();
+   private CompletableFuture<Page<T, K>> lastScheduled;
+   private boolean finished;
+   private volatile boolean closed;
+
+   // A fetched page, with the key to continue from (null when it was the last one)
+   private record Page<T, K>(List<T> records, K nextKey, boolean last) {}
+
+   private PrefetchingPageSpliterator(BiFunction<K, Integer, List<T>> pageFetcher, Function<T, K> keyExtractor,
+                                      int pageSize, int readAhead, Executor executor) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      if (pageSize <= 0 || readAhead < 0) {
+         throw new IllegalArgumentException("Page size must be positive and read-ahead can't be negative");
+      }
+      this.pageFetcher = pageFetcher;
+      this.keyExtractor = keyExtractor;
+      this.pageSize = pageSize;
+      this.readAhead = readAhead;
+      this.executor = executor;
+   }
+
+   /**
+    * @param pageFetcher  returns at most pageSize records after the given key (null for the first page), ordered by key
+    * @param keyExtractor the key of a record, used as the cursor for the next page
+    */
+   public static <T, K> Stream<T> stream(BiFunction<K, Integer, List<T>> pageFetcher, Function<T, K> keyExtractor,
+                                         int pageSize, int readAhead, Executor executor) {
+      PrefetchingPageSpliterator<T, K> spliterator =
+         new PrefetchingPageSpliterator<>(pageFetcher, keyExtractor, pageSize, readAhead, executor);
+      return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+   }
+
+   public static Executor defaultExecutor() {
+      return DEFAULT_EXECUTOR;
+   }
+
+   @Override
+   public boolean tryAdvance(Consumer<? super T> action) {
+      while (!current.hasNext()) {
+         // Released before the next fetch is issued, so it doesn't count against the bound
+         current = Collections.emptyIterator();
+         if (closed || finished) {
+            return false;
+         }
+         fillReadAhead();
+         // Left in pending while waiting, so a close() from another thread can cancel it
+         CompletableFuture<Page<T, K>> next = pending.peekFirst();
+         Page<T, K> page = await(next);
+         if (page == null) {
+            // closed by another thread
+            return false;
+         }
+         pending.remove(next);
+         if (page.last()) {
+            finished = true;
+            cancelPending();
+         }
+         current = page.records().iterator();
+      }
+      action.accept(current.next());
+      return true;
+   }
+
+   @Override
+   public void close() {
+      closed = true;
+      cancelPending();
+   }
+
+   // Schedules the next page plus readAhead more; each fetch starts when the previous page arrives
+   private void fillReadAhead() {
+      while (!finished && !closed && pending.size() <= readAhead) {
+         lastScheduled = lastScheduled == null
+            ? CompletableFuture.supplyAsync(() -> fetch(null), executor)
+            : lastScheduled.thenApplyAsync(this::fetchAfter, executor);
+         pending.addLast(lastScheduled);
+      }
+   }
+
+   private Page<T, K> fetchAfter(Page<T, K> previous) {
+      if (previous.last() || closed) {
+         return new Page<>(List.of(), null, true);
+      }
+      return fetch(previous.nextKey());
+   }
+
+   private Page<T, K> fetch(K afterKey) {
+      List<T> records = pageFetcher.apply(afterKey, pageSize);
+      K nextKey = records.isEmpty() ? null : keyExtractor.apply(records.get(records.size() - 1));
+      return new Page<>(records, nextKey, records.size() < pageSize);
+   }
+
+   // null when the stream was closed (and the page cancelled) by another thread
+   private Page<T, K> await(CompletableFuture<Page<T, K>> page) {
+      if (page == null) {
+         return null;
+      }
+      try {
+         return page.join();
+      } catch (CancellationException e) {
+         return null;
+      } catch (CompletionException e) {
+         if (closed && e.getCause() instanceof CancellationException) {
+            return null;
+         }
+         close();
+         if (e.getCause() instanceof RuntimeException cause) {
+            throw cause;
+         }
+         throw e;
+      }
+   }
+
+   private void cancelPending() {
+      CompletableFuture<Page<T, K>> page;
+      while ((page = pending.pollFirst()) != null) {
+         page.cancel(false);
+      }
+   }
+}
@@ -0,0 +1,227 @@
+package com.technologyos.functional.utils.stream;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Finite sequences whose n-th element can be computed directly from n, as a replacement for
+ * Stream.generate(counter::getAndIncrement) or Stream.iterate(seed, x -> x + step).
+ *
+ * Those sources only know the next element from the previous one: a parallel stream has to hand
+ * out batches one after the other, and a shared counter makes every thread contend on the same atomic.
+ * These spliterators are SIZED and SUBSIZED and split an index range in halves, so every worker
+ * computes its own part without coordination. The length has to be known up front (it plays the
+ * role of limit(n)).
+ *
+ * As with repeated additions, int and long terms wrap around on overflow.
+ */
+public final class Sequences {
+   private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+      | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+   private Sequences() {
+   }
+
+   // from, from + 1, ..., from + count - 1
+   public static IntStream counting(int from, int count) {
+      return ints(from, 1, count);
+   }
+
+   // first, first + step, first + 2 * step, ... (count elements)
+   public static IntStream ints(int first, int step, int count) {
+      checkCount(count);
+      return StreamSupport.intStream(new IntProgression(first, step, 0, count), false);
+   }
+
+   // first, first + step, first + 2 * step, ... (count elements)
+   public static LongStream longs(long first, long step, long count) {
+      checkCount(count);
+      return StreamSupport.longStream(new LongProgression(first, step, 0, count), false);
+   }
+
+   /**
+    * The elements nthTerm(0), nthTerm(1), ..., nthTerm(count - 1): the closed form of an iterate.
+    * For example Stream.iterate(1, x -> x * 2).limit(n) is iterate(n, i -> 1L << i).
+    * nthTerm may be called from several threads and must not return null.
+    */
+   public static <T> Stream<T> iterate(long count, LongFunction<? extends T> nthTerm) {
+      checkCount(count);
+      Objects.requireNonNull(nthTerm);
+      return StreamSupport.stream(new ClosedForm<>(nthTerm, 0, count), false);
+   }
+
+   private static void checkCount(long count) {
+      if (count < 0) {
+         throw new IllegalArgumentException("The number of elements can't be negative: " + count);
+      }
+   }
+
+   // Splits [index, fence) in halves; the halves are computed the same way, so the split is exact
+   private static long middle(long index, long fence) {
+      return (index + fence) >>> 1;
+   }
+
+   private static final class IntProgression implements Spliterator.OfInt {
+      private final int first;
+      private final int step;
+      private long index;
+      private final long fence;
+
+      IntProgression(int first, int step, long index, long fence) {
+         this.first = first;
+         this.step = step;
+         this.index = index;
+         this.fence = fence;
+      }
+
+      @Override
+      public boolean tryAdvance(IntConsumer action) {
+         if (index >= fence) {
+            return false;
+         }
+         action.accept(first + (int) index++ * step);
+         return true;
+      }
+
+      @Override
+      public void forEachRemaining(IntConsumer action) {
+         int value = first + (int) index * step;
+         for (long i = index; i < fence; i++, value += step) {
+            action.accept(value);
+         }
+         index = fence;
+      }
+
+      @Override
+      public OfInt trySplit() {
+         long mid = middle(index, fence);
+         if (mid <= index) {
+            return null;
+         }
+         OfInt prefix = new IntProgression(first, step, index, mid);
+         index = mid;
+         return prefix;
+      }
+
+      @Override
+      public long estimateSize() {
+         return fence - index;
+      }
+
+      @Override
+      public int characteristics() {
+         return CHARACTERISTICS;
+      }
+   }
+
+   private static final class LongProgression implements Spliterator.OfLong {
+      private final long first;
+      private final long step;
+      private long index;
+      private final long fence;
+
+      LongProgression(long first, long step, long index, long fence) {
+         this.first = first;
+         this.step = step;
+         this.index = index;
+         this.fence = fence;
+      }
+
+      @Override
+      public boolean tryAdvance(LongConsumer action) {
+         if (index >= fence) {
+            return false;
+         }
+         action.accept(first + index++ * step);
+         return true;
+      }
+
+      @Override
+      public void forEachRemaining(LongConsumer action) {
+         long value = first + index * step;
+         for (long i = index; i < fence; i++, value += step) {
+            action.accept(value);
+         }
+         index = fence;
+      }
+
+      @Override
+      public OfLong trySplit() {
+         long mid = middle(index, fence);
+         if (mid <= index) {
+            return null;
+         }
+         OfLong prefix = new LongProgression(first, step, index, mid);
+         index = mid;
+         return prefix;
+      }
+
+      @Override
+      public long estimateSize() {
+         return fence - index;
+      }
+
+      @Override
+      public int characteristics() {
+         return CHARACTERISTICS;
+      }
+   }
+
+   private static final class ClosedForm<T> implements Spliterator<T> {
+      private final LongFunction<? extends T> nthTerm;
+      private long index;
+      private final long fence;
+
+      ClosedForm(LongFunction<? extends T> nthTerm, long index, long fence) {
+         this.nthTerm = nthTerm;
+         this.index = index;
+         this.fence = fence;
+      }
+
+      @Override
+      public boolean tryAdvance(Consumer<? super T> action) {
+         if (index >= fence) {
+            return false;
+         }
+         action.accept(nthTerm.apply(index++));
+         return true;
+      }
+
+      @Override
+      public void forEachRemaining(Consumer<? super T> action) {
+         for (long i = index; i < fence; i++) {
+            action.accept(nthTerm.apply(i));
+         }
+         index = fence;
+      }
+
+      @Override
+      public Spliterator<T> trySplit() {
+         long mid = middle(index, fence);
+         if (mid <= index) {
+            return null;
+         }
+         Spliterator<T> prefix = new ClosedForm<>(nthTerm, index, mid);
+         index = mid;
+         return prefix;
+      }
+
+      @Override
+      public long estimateSize() {
+         return fence - index;
+      }
+
+      @Override
+      public int characteristics() {
+         return CHARACTERISTICS;
+      }
+   }
+}
@@ -0,0 +1,67 @@
+package com.technologyos.functional.utils.supplier;
+
+import com.technologyos.functional.utils.pool.ObjectPool;
+import com.technologyos.functional.utils.pool.PoolMetrics;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Supplies objects that must not be used by two threads at once, reusing up to maxSize of them.
+ *
+ * get() returns a Lease that has to be closed to give the object back, the easiest way is a
+ * try-with-resources or withObject(). When every object is leased, get() waits up to maxWait
+ * (see {@link ObjectPool}).
+ */
+public final class PooledSupplier<T> implements Supplier<PooledSupplier.Lease<T>>, AutoCloseable {
+   private final ObjectPool<T> pool;
+
+   PooledSupplier(Supplier<? extends T> supplier, int maxSize, Duration maxWait) {
+      this.pool = new ObjectPool<>(supplier, maxSize, maxWait);
+   }
+
+   public static final class Lease<T> implements Supplier<T>, AutoCloseable {
+      private final ObjectPool<T> pool;
+      private T object;
+
+      private Lease(ObjectPool<T> pool, T object) {
+         this.pool = pool;
+         this.object = object;
+      }
+
+      @Override
+      public T get() {
+         if (object == null) {
+            throw new IllegalStateException("The lease was already closed");
+         }
+         return object;
+      }
+
+      @Override
+      public void close() {
+         if (object != null) {
+            pool.release(object);
+            object = null;
+         }
+      }
+   }
+
+   @Override
+   public Lease<T> get() {
+      return new Lease<>(pool, pool.borrow());
+   }
+
+   public <R> R withObject(Function<? super T, ? extends R> action) {
+      return pool.withObject(action);
+   }
+
+   public PoolMetrics metrics() {
+      return pool.metrics();
+   }
+
+   @Override
+   public void close() {
+      pool.close();
+   }
+}
@@ -0,0 +1,89 @@
+package com.technologyos.functional.utils.supplier;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Computes the value on the first get() and recomputes it in the background once it is older than ttl.
+ *
+ * Only the first get() waits for the value: after that, get() returns the current value immediately,
+ * even while a refresh is running, and at most one refresh runs at a time.
+ * When a refresh fails the previous value is kept, and the next refresh is attempted after another ttl.
+ */
+public final class RefreshingSupplier<T> implements Supplier<T> {
+   private final Supplier<? extends T> delegate;
+   private final long ttlNanos;
+   private final Executor executor;
+
+   private final AtomicBoolean refreshing = new AtomicBoolean();
+   private final LongAdder refreshes = new LongAdder();
+   private final LongAdder failures = new LongAdder();
+   private volatile Entry<T> entry;
+
+   private record Entry<T>(T value, long refreshAt) {}
+
+   RefreshingSupplier(Supplier<? extends T> delegate, Duration ttl, Executor executor) {
+      if (ttl.isNegative() || ttl.isZero()) {
+         throw new IllegalArgumentException("The ttl must be positive");
+      }
+      this.delegate = delegate;
+      this.ttlNanos = ttl.toNanos();
+      this.executor = executor;
+   }
+
+   @Override
+   public T get() {
+      Entry<T> current = entry;
+      if (current == null) {
+         synchronized (this) {
+            current = entry;
+            if (current == null) {
+               current = load();
+               entry = current;
+            }
+         }
+      } else if (System.nanoTime() - current.refreshAt() >= 0) {
+         refreshInBackground(current);
+      }
+      return current.value();
+   }
+
+   // Background refreshes that completed, and the ones that failed
+   public long refreshes() {
+      return refreshes.sum();
+   }
+
+   public long failures() {
+      return failures.sum();
+   }
+
+   private void refreshInBackground(Entry<T> stale) {
+      if (!refreshing.compareAndSet(false, true)) {
+         return;
+      }
+      try {
+         executor.execute(() -> {
+            try {
+               entry = load();
+               refreshes.increment();
+            } catch (RuntimeException e) {
+               failures.increment();
+               entry = new Entry<>(stale.value(), System.nanoTime() + ttlNanos);
+            } finally {
+               refreshing.set(false);
+            }
+         });
+      } catch (RejectedExecutionException e) {
+         refreshing.set(false);
+      }
+   }
+
+   private Entry<T> load() {
+      T value = delegate.get();
+      return new Entry<>(value, System.nanoTime() + ttlNanos);
+   }
+}
@@ -0,0 +1,77 @@
+package com.technologyos.functional.utils.supplier;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Suppliers for expensive resources (connections, clients, configuration...), all lazy and thread-safe:
+ *
+ * memoize:    computes the value once, on the first get(), and returns it forever after.
+ * refreshing: like memoize, but once the value is older than the ttl it is recomputed in the background
+ *             while get() keeps returning the previous one.
+ * pooled:     for objects that can't be shared between threads, up to maxSize of them are created and reused.
+ */
+public final class Suppliers {
+   // Refreshes usually block on I/O, so they get their own daemon threads instead of the common ForkJoinPool
+   private static final ExecutorService REFRESH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "supplier-refresh");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   private Suppliers() {}
+
+   public static <T> Supplier<T> memoize(Supplier<? extends T> supplier) {
+      if (supplier instanceof MemoizingSupplier<?> || supplier instanceof RefreshingSupplier<?>) {
+         @SuppressWarnings("unchecked")
+         Supplier<T> alreadyMemoized = (Supplier<T>) supplier;
+         return alreadyMemoized;
+      }
+      return new MemoizingSupplier<>(Objects.requireNonNull(supplier));
+   }
+
+   public static <T> RefreshingSupplier<T> refreshing(Supplier<? extends T> supplier, Duration ttl) {
+      return new RefreshingSupplier<>(supplier, ttl, REFRESH_EXECUTOR);
+   }
+
+   public static <T> RefreshingSupplier<T> refreshing(Supplier<? extends T> supplier, Duration ttl, Executor executor) {
+      return new RefreshingSupplier<>(supplier, ttl, executor);
+   }
+
+   public static <T> PooledSupplier<T> pooled(Supplier<? extends T> supplier, int maxSize, Duration maxWait) {
+      return new PooledSupplier<>(supplier, maxSize, maxWait);
+   }
+
+   /**
+    * Double-checked initialization: after the first get() the value is read through the volatile flag
+    * without taking the lock. The delegate is dropped once used, so whatever it captured can be collected.
+    */
+   private static final class MemoizingSupplier<T> implements Supplier<T> {
+      private Supplier<? extends T> delegate;
+      private volatile boolean initialized;
+      // Published by the volatile write of initialized
+      private T value;
+
+      MemoizingSupplier(Supplier<? extends T> delegate) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public T get() {
+         if (!initialized) {
+            synchronized (this) {
+               if (!initialized) {
+                  value = delegate.get();
+                  initialized = true;
+                  delegate = null;
+               }
+            }
+         }
+         return value;
+      }
+   }
+}
@@ -0,0 +1,40 @@
+package com.technologyos.functional.web;
+
+import com.technologyos.functional.exceptions.BusinessException;
+import com.technologyos.functional.utils.pool.PoolExhaustedException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers a BusinessException with its own status and code; exceptions without a status are server errors.
+ */
+@RestControllerAdvice
+public class BusinessExceptionHandler {
+
+   public record ErrorResponse(String code, String message, String detail) {}
+
+   @ExceptionHandler(BusinessException.class)
+   public ResponseEntity<ErrorResponse> handle(BusinessException exception) {
+      HttpStatus status = exception.getHttpStatus() == null ? HttpStatus.INTERNAL_SERVER_ERROR : exception.getHttpStatus();
+      return ResponseEntity.status(status)
+         .body(new ErrorResponse(exception.getCode(), exception.getMessage(), exception.getDetail()));
+   }
+
+   // The pooled objects (connections...) a request needs are all in use
+   @ExceptionHandler(PoolExhaustedException.class)
+   public ResponseEntity<ErrorResponse> handle(PoolExhaustedException exception) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+         .body(new ErrorResponse("POOL_EXHAUSTED", "No pooled object available",
+            "Waited " + exception.getMaxWait() + " for an object to be released"));
+   }
+
+   // Every streaming thread is busy and the queue is full, see StreamingConfiguration
+   @ExceptionHandler(TaskRejectedException.class)
+   public ResponseEntity<ErrorResponse> handle(TaskRejectedException exception) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+         .body(new ErrorResponse("STREAMING_BUSY", "Too many streams in progress", "Retry later"));
+   }
+}
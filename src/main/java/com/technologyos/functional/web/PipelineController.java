@@ -0,0 +1,86 @@
+package com.technologyos.functional.web;
+
+import com.technologyos.functional.exceptions.BusinessException;
+import com.technologyos.functional.fundamentals.ImperativeAndDeclarative;
+import com.technologyos.functional.fundamentals.Operators;
+import com.technologyos.functional.models.Course;
+import com.technologyos.functional.models.CourseLevel;
+import com.technologyos.functional.models.User;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serves the stream pipelines as NDJSON (one JSON document per line).
+ *
+ * Each record is written and flushed as soon as the pipeline produces it, instead of collecting a List
+ * first. The pipeline runs on the MVC async executor of StreamingConfiguration, not on the request thread.
+ * That executor is a bounded pool of platform threads, and a slow client holds one of them until its
+ * stream ends: at most pipelines.streaming.threads streams run at once (32 by default), up to
+ * pipelines.streaming.queue-capacity more wait (64), and beyond that a request gets a 503.
+ * The build targets Java 17, which has no virtual threads, so this cap replaces a thread per response.
+ */
+@RestController
+public class PipelineController {
+   private final ObjectMapper objectMapper;
+
+   public PipelineController(ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+   }
+
+   @GetMapping("/users/adults")
+   public ResponseEntity<StreamingResponseBody> adults() {
+      return ndjson(() -> ImperativeAndDeclarative.streamUsersWithAgeIsGreaterThanEighteen(
+         ImperativeAndDeclarative.listOfUsers.stream()));
+   }
+
+   // All the courses, or only those of a level (by name or label: AVANZADO or Avanzado)
+   @GetMapping("/courses")
+   public ResponseEntity<StreamingResponseBody> courses(@RequestParam(required = false) String level) {
+      if (level == null) {
+         return ndjson(() -> Operators.streamCourses(Operators.getCourses()));
+      }
+      CourseLevel courseLevel = parseLevel(level);
+      return ndjson(() -> Operators.streamCourses(Operators.getCourses(), courseLevel));
+   }
+
+   private static CourseLevel parseLevel(String level) {
+      for (CourseLevel courseLevel : CourseLevel.values()) {
+         if (courseLevel.name().equalsIgnoreCase(level) || courseLevel.label().equalsIgnoreCase(level)) {
+            return courseLevel;
+         }
+      }
+      throw new BusinessException("INVALID_COURSE_LEVEL", "Unknown course level: " + level,
+         "Expected one of Introductorio, Intermedio or Avanzado", HttpStatus.BAD_REQUEST);
+   }
+
+   // The pipeline is built inside the body, so it only starts once the response is being written
+   private <T> ResponseEntity<StreamingResponseBody> ndjson(PipelineSource<T> source) {
+      StreamingResponseBody body = output -> {
+         try (Stream<T> records = source.open()) {
+            Iterator<T> iterator = records.iterator();
+            while (iterator.hasNext()) {
+               output.write(objectMapper.writeValueAsBytes(iterator.next()));
+               output.write('\n');
+               output.flush();
+            }
+         }
+      };
+      return ResponseEntity.ok()
+         .contentType(MediaType.APPLICATION_NDJSON)
+         .body(body);
+   }
+
+   @FunctionalInterface
+   private interface PipelineSource<T> {
+      Stream<T> open();
+   }
+}
@@ -0,0 +1,43 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.functions.ConsumerSupplierGuide.Account;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentInMemoryDatabaseExecutorTest {
+
+   record Customer(String id, String name) {}
+
+   @Test
+   void types_are_kept_in_their_own_partition(){
+      ConcurrentInMemoryDatabaseExecutor database = new ConcurrentInMemoryDatabaseExecutor();
+      database.register(Customer.class, Customer::id);
+
+      database.insert(new Account("1", 100.0));
+      database.insert(new Customer("1", "Alice"));
+      database.insert("not registered");
+
+      assertEquals(new Account("1", 100.0), database.select("1", Account.class));
+      assertEquals(new Customer("1", "Alice"), database.select("1", Customer.class));
+      assertNull(database.select("1", String.class));
+   }
+
+   @Test
+   void concurrent_batch_inserts(){
+      ConcurrentInMemoryDatabaseExecutor database = new ConcurrentInMemoryDatabaseExecutor();
+
+      IntStream.range(0, 64).parallel().forEach(batch -> database.insertAll(
+         IntStream.range(batch * 1_000, (batch + 1) * 1_000)
+            .mapToObj(i -> new Account(String.valueOf(i), i))
+            .collect(Collectors.toList())));
+
+      assertEquals(64_000, database.size(Account.class));
+      assertEquals(new Account("12345", 12345), database.select("12345", Account.class));
+      database.insertAll(List.of());
+   }
+}
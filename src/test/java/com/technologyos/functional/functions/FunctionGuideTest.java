@@ -26,4 +26,37 @@ class FunctionGuideTest {
          FunctionGuide.applyMathInTheList(myNumbers, x -> -1 * x));
    }
 
+   @Test
+   public void multiplyPrimitives(){
+      int[] myNumbers = {1, 2, 3, 4, 5, 6};
+
+      //square into a separate output
+      int[] squares = new int[myNumbers.length];
+      assertArrayEquals(new int[]{1, 4, 9, 16, 25, 36},
+         FunctionGuide.applyMathInTheArray(myNumbers, x -> x * x, squares));
+      assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, myNumbers);
+
+      //toNegative in place
+      assertSame(myNumbers, FunctionGuide.applyMathInTheArray(myNumbers, x -> -1 * x));
+      assertArrayEquals(new int[]{-1, -2, -3, -4, -5, -6}, myNumbers);
+
+      assertArrayEquals(new long[]{2L, 4L}, FunctionGuide.applyMathInTheArray(new long[]{1L, 2L}, x -> x * 2));
+      assertArrayEquals(new double[]{0.5, 1.0}, FunctionGuide.applyMathInTheArray(new double[]{1.0, 2.0}, x -> x / 2));
+
+      assertThrows(IllegalArgumentException.class,
+         () -> FunctionGuide.applyMathInTheArray(new int[]{1, 2}, x -> x, new int[1]));
+   }
+
+   @Test
+   public void multiplyPrimitivesInParallel(){
+      int size = FunctionGuide.PARALLEL_THRESHOLD * 4;
+      long[] myNumbers = new long[size];
+      long[] expected = new long[size];
+      for (int i = 0; i < size; i++) {
+         myNumbers[i] = i;
+         expected[i] = (long) i * i;
+      }
+
+      assertArrayEquals(expected, FunctionGuide.applyMathInTheArrayParallel(myNumbers, x -> x * x, new long[size]));
+   }
 }
@@ -0,0 +1,89 @@
+package com.technologyos.functional.functions;
+
+import com.technologyos.functional.functions.ConsumerSupplierGuide.Account;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindConsumerTest {
+
+   @TempDir
+   Path directory;
+
+   @Test
+   void writes_every_account_in_batches() throws Exception {
+      Path file = directory.resolve("accounts.csv");
+      ConcurrentInMemoryDatabaseExecutor database = new ConcurrentInMemoryDatabaseExecutor();
+      AtomicInteger batches = new AtomicInteger();
+      ConsumerSupplierGuide.DataBaseExecutor countingDatabase = new ConsumerSupplierGuide.DataBaseExecutor() {
+         @Override
+         public <T> void insert(T instance) {
+            database.insert(instance);
+         }
+
+         @Override
+         public <T> T select(String id, Class<T> type) {
+            return database.select(id, type);
+         }
+
+         @Override
+         public <T> void insertAll(Collection<? extends T> instances) {
+            batches.incrementAndGet();
+            database.insertAll(instances);
+         }
+      };
+
+      try (WriteBehindConsumer<Account> consumer = new WriteBehindConsumer<>(
+         file, ConsumerSupplierGuide::toFileLine, countingDatabase, 1024, 500, Duration.ofMillis(50))) {
+         IntStream.range(0, 10_000).parallel().forEach(i -> consumer.accept(new Account("id-" + i, i)));
+      }
+
+      List<String> lines = Files.readAllLines(file);
+      assertEquals(10_000, lines.size());
+      assertTrue(lines.contains("id-42,42.00"));
+      assertEquals(10_000, database.size(Account.class));
+      assertTrue(batches.get() >= 20 && batches.get() < 10_000);
+   }
+
+   @Test
+   void flush_waits_for_the_accepted_accounts() throws Exception {
+      Path file = directory.resolve("flush.csv");
+
+      try (WriteBehindConsumer<Account> consumer = new WriteBehindConsumer<>(
+         file, ConsumerSupplierGuide::toFileLine, new ConcurrentInMemoryDatabaseExecutor())) {
+         consumer.accept(new Account("a", -1.5));
+         consumer.flush();
+
+         assertEquals(List.of("a,-1.50"), Files.readAllLines(file));
+      }
+   }
+
+   @Test
+   void database_failures_are_reported_on_flush() {
+      ConsumerSupplierGuide.DataBaseExecutor failing = new ConcurrentInMemoryDatabaseExecutor() {
+         @Override
+         public <T> void insertAll(Collection<? extends T> instances) {
+            throw new IllegalStateException("database down");
+         }
+      };
+
+      WriteBehindConsumer<Account> consumer = new WriteBehindConsumer<>(
+         directory.resolve("failing.csv"), ConsumerSupplierGuide::toFileLine, failing);
+      consumer.accept(new Account("a", 1));
+
+      assertThrows(IllegalStateException.class, consumer::flush);
+      // The failure is reported until the consumer is closed
+      assertThrows(IllegalStateException.class, consumer::flush);
+      assertThrows(IllegalStateException.class, consumer::close);
+      assertThrows(IllegalStateException.class, () -> consumer.accept(new Account("b", 2)));
+   }
+}
@@ -0,0 +1,62 @@
+package com.technologyos.functional.functions.text;
+
+import com.technologyos.functional.functions.FunctionGuide;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextTransformerTest {
+
+   @Test
+   void transform_text(){
+      assertEquals("ABCDEF", FunctionGuide.transformText("  ab-cd-ef \n"));
+      assertEquals("", FunctionGuide.transformText("   "));
+   }
+
+   @Test
+   void same_result_as_chaining_the_operations(){
+      List<Function<String, String>> transformations = List.of(
+         TextOperation.replace('_', ' '),
+         TextOperation.TRIM,
+         TextOperation.TO_LOWER_CASE,
+         TextOperation.remove('x'),
+         TextOperation.replace('a', '4')
+      );
+      Function<String, String> chained = transformations.stream()
+         .reduce(Function.identity(), Function::andThen);
+      TextTransformer transformer = TextTransformer.compile(transformations);
+
+      for (String text : List.of("__Xavier_Jax__", "", "_", "MAXIMA", "straße _x_", "  İstanbul  ")) {
+         assertEquals(chained.apply(text), transformer.apply(text), text);
+      }
+   }
+
+   @Test
+   void non_ascii_text_uses_the_string_methods(){
+      TextTransformer toUpper = TextTransformer.compile(List.of(TextOperation.TO_UPPER_CASE));
+      assertEquals("STRASSE", toUpper.apply("straße"));
+      assertEquals("ÁRBOL", toUpper.apply("árbol"));
+   }
+
+   @Test
+   void unknown_functions_still_run(){
+      Function<String, String> exclaim = s -> s + "!";
+      TextTransformer transformer = TextTransformer.compile(List.of(
+         TextOperation.TRIM, exclaim, TextOperation.TO_UPPER_CASE, String::strip));
+
+      assertEquals("HELLO!", transformer.apply("  hello "));
+   }
+
+   @Test
+   void compiled_transformers_can_be_combined(){
+      TextTransformer first = TextTransformer.compile(List.of(TextOperation.TRIM));
+      TextTransformer second = TextTransformer.compile(List.of(first, TextOperation.remove('-')));
+
+      assertEquals("abc", second.apply(" a-b-c "));
+      assertEquals("ABC", second.andThen(s -> s.toUpperCase(Locale.ROOT)).apply(" a-b-c "));
+   }
+}
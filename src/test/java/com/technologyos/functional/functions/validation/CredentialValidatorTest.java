@@ -0,0 +1,66 @@
+package com.technologyos.functional.functions.validation;
+
+import com.technologyos.functional.functions.validation.CharacterRule.CharClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialValidatorTest {
+
+   private static final List<CharacterRule> RULES = List.of(
+      CharacterRule.notBlank(),
+      CharacterRule.minLength(8),
+      CharacterRule.contains(CharClass.DIGIT),
+      CharacterRule.contains(CharClass.UPPER_CASE)
+   );
+
+   private static final List<String> PASSWORDS = List.of(
+      "Secret123", "secret123", "SECRETPASS", "S3c", "        ", "", "Contraseña9", "12345678A");
+
+   @Test
+   void same_result_as_the_regex_predicates(){
+      Predicate<String> chained = s -> !s.trim().isEmpty() && s.length() >= 8
+         && s.matches(".*\\d.*") && s.matches(".*[A-Z].*");
+      CredentialValidator validator = CredentialValidator.compile(RULES);
+
+      for (String password : PASSWORDS) {
+         assertEquals(chained.test(password), validator.test(password), password);
+         assertEquals(RULES.stream().allMatch(rule -> rule.test(password)), validator.test(password), password);
+      }
+   }
+
+   @Test
+   void only_rules(){
+      CredentialValidator digits = CredentialValidator.compile(CharacterRule.only(CharClass.DIGIT), CharacterRule.notBlank());
+
+      assertTrue(digits.test("0123456789"));
+      assertFalse(digits.test("01234a"));
+      assertFalse(digits.test(""));
+   }
+
+   @Test
+   void failures_per_rule(){
+      CredentialValidator validator = CredentialValidator.compile(RULES);
+
+      assertEquals(0L, validator.failures("Secret123"));
+      assertEquals(0b1000L, validator.failures("secret123"));
+      assertEquals(0b1111L, validator.failures("   "));
+   }
+
+   @Test
+   void validate_batch(){
+      CredentialValidator validator = CredentialValidator.compile(RULES);
+      RuleFailures failures = validator.validateAll(PASSWORDS.toArray(new String[0]));
+
+      assertEquals(BitSet.valueOf(new long[]{0b110000}), failures.failuresOf(CharacterRule.notBlank()));
+      assertEquals(BitSet.valueOf(new long[]{0b101000}), failures.failuresOf(CharacterRule.minLength(8)));
+      assertEquals(BitSet.valueOf(new long[]{0b111110}), failures.invalid());
+      assertEquals(failures.invalid(), validator.validateAll(PASSWORDS.stream()).invalid());
+      assertEquals(PASSWORDS.size(), validator.validateAll(Stream.of(PASSWORDS.toArray(new String[0]))).size());
+   }
+}
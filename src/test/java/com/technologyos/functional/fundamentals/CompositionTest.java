@@ -0,0 +1,72 @@
+package com.technologyos.functional.fundamentals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositionTest {
+
+   @TempDir
+   Path tempDir;
+
+   @Test
+   void stream_lines_with_content() throws IOException {
+      String path = Files.writeString(tempDir.resolve("lines.txt"), "Juan\n\n  \nAndrea\nPatricia\n").toString();
+      List<String> expected = Arrays.asList("Juan", "Andrea", "Patricia");
+
+      assertIterableEquals(expected, Composition.getLinesWithContentUsingAndThen(path));
+      try (Stream<String> lines = Composition.streamLinesWithContentUsingCompose(path)) {
+         assertIterableEquals(expected, lines.collect(Collectors.toList()));
+      }
+      try (Stream<String> lines = Composition.streamStepByStepWithAndThen(path)) {
+         assertEquals("Juan", lines.findFirst().orElse(null));
+      }
+   }
+
+   @Test
+   void closing_the_stream_closes_the_file() throws IOException {
+      String path = Files.writeString(tempDir.resolve("lines.txt"), "Juan\n").toString();
+      List<BiFunction<String, Function<File, Stream<String>>, Stream<String>>> pipelines = List.of(
+         Composition::streamLinesWithContentUsingCompose, Composition::streamStepByStepWithCompose,
+         Composition::streamLinesWithContentUsingAndThen, Composition::streamStepByStepWithAndThen);
+
+      for (BiFunction<String, Function<File, Stream<String>>, Stream<String>> pipeline : pipelines) {
+         AtomicBoolean closed = new AtomicBoolean();
+         Function<File, Stream<String>> observedLines = file -> {
+            try {
+               return Files.lines(file.toPath()).onClose(() -> closed.set(true));
+            } catch (IOException e) {
+               throw new UncheckedIOException(e);
+            }
+         };
+
+         try (Stream<String> lines = pipeline.apply(path, observedLines)) {
+            assertEquals(1, lines.count());
+            assertFalse(closed.get());
+         }
+         assertTrue(closed.get());
+      }
+   }
+
+   @Test
+   void missing_file_reaches_the_caller() {
+      String path = tempDir.resolve("missing.txt").toString();
+
+      assertTrue(Composition.getLinesWithContentUsingAndThen(path).isEmpty());
+      assertThrows(UncheckedIOException.class, () -> Composition.streamLinesWithContentUsingAndThen(path));
+   }
+}
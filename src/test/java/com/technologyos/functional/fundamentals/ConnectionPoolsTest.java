@@ -0,0 +1,69 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.fundamentals.Partial.DBConfiguration;
+import com.technologyos.functional.fundamentals.Partial.DataBaseConnection;
+import com.technologyos.functional.fundamentals.Partial.PreparedQuery;
+import com.technologyos.functional.fundamentals.Partial.Query;
+import com.technologyos.functional.utils.pool.ObjectPool;
+import com.technologyos.functional.utils.pool.PoolExhaustedException;
+import com.technologyos.functional.utils.pool.PoolMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolsTest {
+
+   private final AtomicInteger connections = new AtomicInteger();
+   private final AtomicInteger prepared = new AtomicInteger();
+
+   private DataBaseConnection countingConnection(DBConfiguration conf) {
+      connections.incrementAndGet();
+      return new DataBaseConnection(conf) {
+         @Override
+         public PreparedQuery prepare(Query query) {
+            prepared.incrementAndGet();
+            return super.prepare(query);
+         }
+      };
+   }
+
+   @Test
+   void connections_and_prepared_queries_are_reused(){
+      DBConfiguration postgres = new DBConfiguration("localhost", "admin", "1234", 5432);
+
+      try (ConnectionPools pools = new ConnectionPools(this::countingConnection, 4, 10, Duration.ofSeconds(1))) {
+         Function<Query, Partial.QueryResult> executor = pools.executorFor(postgres);
+         IntStream.range(0, 100).forEach(i -> executor.apply(new Query("SELECT ...")));
+
+         // An equal configuration shares the same pool
+         pools.executorFor(new DBConfiguration("localhost", "admin", "1234", 5432)).apply(new Query("SELECT ..."));
+
+         PoolMetrics metrics = pools.metrics(postgres);
+         assertEquals(101, metrics.borrows());
+         assertEquals(1, metrics.created());
+         assertEquals(0, metrics.active());
+         assertEquals(1, metrics.idle());
+      }
+      assertEquals(1, connections.get());
+      assertEquals(1, prepared.get());
+   }
+
+   @Test
+   void exhausted_pool_times_out(){
+      try (ObjectPool<Object> pool = new ObjectPool<>(Object::new, 1, Duration.ofMillis(10))) {
+         Object borrowed = pool.borrow();
+
+         PoolExhaustedException exception = assertThrows(PoolExhaustedException.class, pool::borrow);
+         assertEquals(Duration.ofMillis(10), exception.getMaxWait());
+         assertEquals(1, pool.metrics().timeouts());
+
+         pool.release(borrowed);
+         assertSame(borrowed, pool.borrow());
+      }
+   }
+}
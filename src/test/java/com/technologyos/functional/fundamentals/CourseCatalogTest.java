@@ -0,0 +1,57 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.models.CourseLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseCatalogTest {
+
+   @Test
+   void indexes_the_courses_by_level() {
+      CourseCatalog catalog = Operators.toCatalog(Operators.getCourses());
+
+      assertEquals(List.of("Eventloop", "Gradle"), catalog.namesOf(CourseLevel.AVANZADO));
+      assertEquals(List.of("Node.js", "Express.js", "Maven"), catalog.namesOf(CourseLevel.INTERMEDIO));
+      assertEquals(List.of("Spring", "Functional"), catalog.namesOf(CourseLevel.INTRODUCTORIO));
+      assertEquals(7, catalog.size());
+   }
+
+   @Test
+   void gives_the_same_advance_courses_as_the_split_pipeline() {
+      List<String> expected = Operators.getNamesStream(
+         Operators.filterAdvanceCourses(
+            Operators.splitInformation(
+               Operators.flatMapCourses(Operators.getCourses())))).collect(Collectors.toList());
+
+      assertEquals(expected, Operators.getAdvanceCourseNames(Operators.getCourses()));
+   }
+
+   @Test
+   void skips_invalid_records() {
+      CourseCatalog catalog = CourseCatalog.of(List.of(
+         "NoLevel", ":Avanzado", "Docker:Experto", "Docker:avanzado", "Kafka:Avanzado:2024", "Go:Avanzado"));
+
+      assertEquals(List.of("Kafka", "Go"), catalog.namesOf(CourseLevel.AVANZADO));
+      assertEquals(4, catalog.skipped());
+   }
+
+   @Test
+   void parallel_collect_keeps_the_encounter_order() {
+      List<String> records = IntStream.range(0, 10_000)
+         .mapToObj(i -> "Course" + i + ":" + CourseLevel.values()[i % 3].label())
+         .toList();
+
+      CourseCatalog catalog = records.parallelStream().collect(CourseCatalog.collector());
+
+      List<String> expected = IntStream.range(0, 10_000).filter(i -> i % 3 == 2)
+         .mapToObj(i -> "Course" + i).toList();
+      assertEquals(expected, catalog.namesOf(CourseLevel.AVANZADO));
+      assertEquals(10_000, Stream.of(CourseLevel.values()).mapToInt(catalog::count).sum());
+   }
+}
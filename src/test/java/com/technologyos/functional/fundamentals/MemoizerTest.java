@@ -0,0 +1,84 @@
+package com.technologyos.functional.fundamentals;
+
+import com.technologyos.functional.fundamentals.Currying.ThreeFunction;
+import com.technologyos.functional.fundamentals.Memoizer.MemoizedBiFunction;
+import com.technologyos.functional.fundamentals.Memoizer.MemoizedFunction;
+import com.technologyos.functional.utils.cache.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizerTest {
+
+   @Test
+   void memoized_sum_is_computed_once_per_arguments(){
+      AtomicInteger calls = new AtomicInteger();
+      MemoizedBiFunction<Integer, Integer, Integer> sum = Memoizer.memoize((Integer x, Integer y) -> {
+         calls.incrementAndGet();
+         return PureAndImpureFunction.sum(x, y);
+      }, 100);
+
+      assertEquals(10, sum.apply(5, 5));
+      assertEquals(10, sum.apply(5, 5));
+      assertEquals(11, sum.apply(5, 6));
+
+      assertEquals(2, calls.get());
+      assertEquals(new CacheStats(1, 2, 0), sum.stats());
+   }
+
+   @Test
+   void memoized_function_still_composes(){
+      MemoizedFunction<Integer, Integer> square = Memoizer.memoize((Integer x) -> x * x, 100);
+      Function<Integer, String> squareText = square.andThen(String::valueOf).compose(x -> x + 1);
+
+      assertEquals("16", squareText.apply(3));
+      assertEquals("16", squareText.apply(3));
+      assertEquals(1, square.stats().hits());
+   }
+
+   @Test
+   void size_bound_evicts_entries(){
+      MemoizedFunction<Integer, Integer> identity = Memoizer.memoize(Function.identity(), 16);
+      for (int i = 0; i < 1_000; i++) {
+         identity.apply(i);
+      }
+
+      assertEquals(1_000, identity.stats().misses());
+      assertTrue(identity.stats().evictions() >= 1_000 - 16);
+   }
+
+   @Test
+   void null_results_are_cached(){
+      AtomicInteger calls = new AtomicInteger();
+      MemoizedFunction<String, String> nothing = Memoizer.memoize((String s) -> {
+         calls.incrementAndGet();
+         return null;
+      }, 10);
+
+      assertNull(nothing.apply(null));
+      assertNull(nothing.apply(null));
+      assertEquals(1, calls.get());
+   }
+
+   @Test
+   void curried_stages_are_memoized(){
+      AtomicInteger calls = new AtomicInteger();
+      ThreeFunction<Integer, String, Double, String> fullFunction = (i, s, d) -> {
+         calls.incrementAndGet();
+         return "ID: " + i + ", Name: " + s + ", Salary: $" + d;
+      };
+      Function<Integer, Function<String, Function<Double, String>>> curried = Memoizer.memoizeCurried(fullFunction, 100);
+
+      assertSame(curried.apply(1), curried.apply(1));
+      assertSame(curried.apply(1).apply("Alice"), curried.apply(1).apply("Alice"));
+      assertEquals("ID: 1, Name: Alice, Salary: $45000.0", curried.apply(1).apply("Alice").apply(45000.0));
+      assertEquals("ID: 1, Name: Alice, Salary: $45000.0", curried.apply(1).apply("Alice").apply(45000.0));
+      assertEquals(1, calls.get());
+
+      Function<Integer, Function<Integer, Integer>> multiplyBy = Memoizer.memoizeCurried((Integer x, Integer y) -> x * y, 100);
+      assertEquals(100, multiplyBy.apply(5).apply(20));
+   }
+}
@@ -0,0 +1,133 @@
+package com.technologyos.functional.interfaces;
+
+import com.technologyos.functional.models.Product;
+import com.technologyos.functional.utils.stream.PrefetchingPageSpliterator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagedDatabaseServiceTest {
+
+   // In-memory service with ids 1..size that records every page it is asked for
+   static class ProductService implements PagedDatabaseService<Product> {
+      private final List<Product> products;
+      final List<Long> requestedPages = new CopyOnWriteArrayList<>();
+
+      ProductService(int size) {
+         products = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> new Product(id, "product-" + id, BigDecimal.valueOf(id)))
+            .collect(Collectors.toList());
+      }
+
+      @Override
+      public Product getById(Long id) {
+         return products.get(id.intValue() - 1);
+      }
+
+      @Override
+      public List<Product> getAllRecords() {
+         return products;
+      }
+
+      @Override
+      public List<Product> getRecordsAfter(Long afterId, int limit) {
+         requestedPages.add(afterId == null ? 0L : afterId);
+         int from = afterId == null ? 0 : afterId.intValue();
+         return List.copyOf(products.subList(java.lang.Math.min(from, products.size()), java.lang.Math.min(from + limit, products.size())));
+      }
+
+      @Override
+      public Long getId(Product product) {
+         return product.getProductId();
+      }
+   }
+
+   @Test
+   void streams_every_record_in_order(){
+      ProductService service = new ProductService(1_234);
+
+      try (Stream<Product> products = service.streamAllRecords()) {
+         assertEquals(service.getAllRecords(), products.collect(Collectors.toList()));
+      }
+      assertEquals(25, service.requestedPages.size());
+   }
+
+   @Test
+   void exact_multiple_of_page_size(){
+      ProductService service = new ProductService(100);
+
+      try (Stream<Product> products = service.streamAllRecords(50, 3, Runnable::run)) {
+         assertEquals(100, products.count());
+      }
+      assertEquals(List.of(0L, 50L, 100L), service.requestedPages);
+   }
+
+   @Test
+   void closing_early_stops_fetching(){
+      ProductService service = new ProductService(10_000);
+      Executor sameThread = Runnable::run;
+
+      try (Stream<Product> products = service.streamAllRecords(10, 2, sameThread)) {
+         assertEquals(15L, products.limit(5).map(Product::getProductId).reduce(0L, Long::sum));
+      }
+      // The page being read plus the two read ahead
+      assertEquals(List.of(0L, 10L, 20L), service.requestedPages);
+   }
+
+   @Test
+   void closing_from_another_thread_ends_the_stream() throws Exception {
+      CountDownLatch secondPageReleased = new CountDownLatch(1);
+      ProductService service = new ProductService(100) {
+         @Override
+         public List<Product> getRecordsAfter(Long afterId, int limit) {
+            if (afterId != null) {
+               try {
+                  secondPageReleased.await();
+               } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+               }
+            }
+            return super.getRecordsAfter(afterId, limit);
+         }
+      };
+
+      Stream<Product> products = service.streamAllRecords(10, 1, PrefetchingPageSpliterator.defaultExecutor());
+      try {
+         Iterator<Product> iterator = products.iterator();
+         for (int i = 0; i < 10; i++) {
+            iterator.next();
+         }
+         // The consumer is now waiting for the second page, which doesn't come until the stream is closed
+         CompletableFuture.runAsync(products::close, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+         assertFalse(iterator.hasNext());
+      } finally {
+         secondPageReleased.countDown();
+      }
+   }
+
+   @Test
+   void fetch_errors_reach_the_consumer(){
+      ProductService service = new ProductService(100) {
+         @Override
+         public List<Product> getRecordsAfter(Long afterId, int limit) {
+            throw new IllegalStateException("connection lost");
+         }
+      };
+
+      try (Stream<Product> products = service.streamAllRecords()) {
+         assertThrows(IllegalStateException.class, products::count);
+      }
+   }
+}
@@ -23,4 +23,17 @@ class ImmutableUserTest {
 
       assertIterableEquals(Arrays.asList("Juan", "Andrea", "Patricia"), immutableUser.friends());
    }
+
+   @Test
+   void with_friend_returns_a_new_user(){
+      ImmutableUser immutableUser = new ImmutableUser("Jose Armando",
+         "28", "my_email@gmail.com", Arrays.asList("Juan", "Andrea"));
+
+      ImmutableUser withCarmen = immutableUser.withFriend("Carmen");
+
+      assertIterableEquals(Arrays.asList("Juan", "Andrea"), immutableUser.friends());
+      assertIterableEquals(Arrays.asList("Juan", "Andrea", "Carmen"), withCarmen.friends());
+      assertSame(immutableUser.friends(), immutableUser.friends());
+      assertThrows(UnsupportedOperationException.class, () -> immutableUser.friends().add("Carmen"));
+   }
 }
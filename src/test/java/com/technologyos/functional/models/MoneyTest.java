@@ -0,0 +1,58 @@
+package com.technologyos.functional.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+   @Test
+   void converts_from_and_to_big_decimal() {
+      Money money = Money.of(new BigDecimal("12.50"));
+
+      assertEquals(1250, money.units());
+      assertEquals(2, money.scale());
+      assertEquals(new BigDecimal("12.50"), money.toBigDecimal());
+      assertEquals("12.50", money.toString());
+      assertEquals(Money.of(1200, 0), Money.of(new BigDecimal("1.2E+3")));
+   }
+
+   @Test
+   void values_that_do_not_fit_are_rejected() {
+      assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1.005"), 2));
+      assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+19")));
+      assertThrows(IllegalArgumentException.class, () -> Money.of(1, 19));
+   }
+
+   @Test
+   void arithmetic_aligns_scales() {
+      assertEquals(Money.of("13.755"), Money.of("12.5").plus(Money.of("1.255")));
+      assertEquals(Money.of("11.245"), Money.of("12.5").minus(Money.of("1.255")));
+      assertEquals(Money.of("37.50"), Money.of("12.50").times(3));
+      assertEquals(Money.of("12.6"), Money.of("12.55").withScale(1, RoundingMode.HALF_UP));
+      assertEquals(Money.of("12.5500"), Money.of("12.55").withScale(4, RoundingMode.UNNECESSARY));
+   }
+
+   @Test
+   void overflow_throws_instead_of_wrapping() {
+      Money max = Money.of(Long.MAX_VALUE, 0);
+
+      assertThrows(ArithmeticException.class, () -> max.plus(Money.of(1, 0)));
+      assertThrows(ArithmeticException.class, () -> max.plus(Money.of("0.1")));
+      assertThrows(ArithmeticException.class, () -> max.times(2));
+      assertThrows(ArithmeticException.class, () -> Money.of(Long.MIN_VALUE, 0).negate());
+   }
+
+   @Test
+   void compares_values_of_any_scale() {
+      assertEquals(0, Money.of("1.0").compareTo(Money.of("1.00")));
+      assertNotEquals(Money.of("1.0"), Money.of("1.00"));
+      assertTrue(Money.of("0.99").compareTo(Money.of("1")) < 0);
+      // aligning Long.MAX_VALUE to 2 decimals overflows, the comparison must not
+      assertTrue(Money.of(Long.MAX_VALUE, 0).compareTo(Money.of("1.25")) > 0);
+      assertTrue(Money.of(Long.MIN_VALUE, 0).compareTo(Money.of("-1.25")) < 0);
+   }
+}
@@ -0,0 +1,67 @@
+package com.technologyos.functional.models;
+
+import com.technologyos.functional.utils.builder.BuilderWithChaining;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneTest {
+
+   @Test
+   void parses_international_formats() {
+      Phone phone = new Phone("+52 (55) 1234-5678");
+
+      assertEquals("MX", phone.getCountry());
+      assertArrayEquals("52".toCharArray(), phone.getCountryCode());
+      assertArrayEquals("5512345678".toCharArray(), phone.getDigits());
+      assertEquals("+52 5512345678", phone.toString());
+      assertEquals(phone, new Phone("+525512345678"));
+      assertEquals(phone, new Phone("  +52 55.1234.5678 "));
+   }
+
+   @Test
+   void countries_are_shared_instances() {
+      assertSame(new Phone("+1 555 123 4567").getPhoneCountry(), new Phone("+1-212-555-0100").getPhoneCountry());
+      assertSame(PhoneCountry.of(52), new Phone("+52 1").getPhoneCountry());
+
+      Phone unknownCode = new Phone("+999 123");
+      assertNull(unknownCode.getCountry());
+      assertEquals(999, unknownCode.getPhoneCountry().callingCode());
+   }
+
+   @Test
+   void phones_without_country_keep_leading_zeros() {
+      Phone phone = new Phone("0123456789");
+
+      assertSame(PhoneCountry.NONE, phone.getPhoneCountry());
+      assertEquals(0, phone.getCountryCode().length);
+      assertEquals("0123456789", phone.toString());
+      assertNotEquals(phone, new Phone("123456789"));
+      assertEquals(phone, Phone.fromPacked(phone.packed()));
+   }
+
+   @Test
+   void rejects_what_is_not_a_phone() {
+      for (String text : List.of("", "+", "+52", "+0 123", "+052 123", "+999999", "55 12a4", "1234567890123456", "+(52) 551")) {
+         assertEquals(Phone.INVALID, Phone.parsePacked(text), text);
+      }
+      assertThrows(IllegalArgumentException.class, () -> new Phone("call me"));
+      assertThrows(IllegalArgumentException.class, () -> new BuilderWithChaining("1").withPhone("abc"));
+   }
+
+   @Test
+   void bulk_parse_and_dedup() {
+      List<String> batch = List.of("+52 55 1234 5678", "not a phone", "+525512345678", "987654321");
+
+      long[] packed = Phone.parseAllPacked(batch);
+
+      assertEquals(Phone.INVALID, packed[1]);
+      assertEquals(packed[0], packed[2]);
+      assertEquals(2, new HashSet<>(Arrays.asList(Phone.parseAll(List.of(batch.get(0), batch.get(2), batch.get(3))))).size());
+      assertThrows(IllegalArgumentException.class, () -> Phone.parseAll(batch));
+   }
+}
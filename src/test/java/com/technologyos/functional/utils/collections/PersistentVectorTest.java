@@ -0,0 +1,78 @@
+package com.technologyos.functional.utils.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentVectorTest {
+
+   @Test
+   void plus_matches_array_list_across_tree_levels() {
+      List<Integer> expected = new ArrayList<>();
+      PersistentVector<Integer> vector = PersistentVector.empty();
+      for (int i = 0; i < 40_000; i++) {
+         expected.add(i);
+         vector = vector.plus(i);
+      }
+
+      assertEquals(expected.size(), vector.size());
+      for (int i = 0; i < expected.size(); i++) {
+         assertEquals(expected.get(i), vector.get(i));
+      }
+      assertEquals(expected, vector);
+      assertEquals(expected, PersistentVector.copyOf(expected));
+   }
+
+   @Test
+   void copy_of_builds_the_same_tree_as_plus() {
+      for (int size : new int[]{0, 1, 31, 32, 33, 64, 1056, 1057, 33_824}) {
+         List<Integer> expected = IntStream.range(0, size).boxed().toList();
+         PersistentVector<Integer> copied = PersistentVector.copyOf(expected).plus(-1);
+
+         assertEquals(size + 1, copied.size());
+         assertEquals(expected, copied.subList(0, size));
+         assertEquals(-1, copied.get(size));
+      }
+   }
+
+   @Test
+   void updates_do_not_affect_the_original() {
+      PersistentVector<String> original = PersistentVector.copyOf(
+         IntStream.range(0, 100).mapToObj(String::valueOf).toList());
+
+      PersistentVector<String> added = original.plus("new");
+      PersistentVector<String> replaced = original.with(5, "five").with(99, "last");
+
+      assertEquals(100, original.size());
+      assertEquals("5", original.get(5));
+      assertEquals("99", original.get(99));
+      assertEquals("new", added.get(100));
+      assertEquals("five", replaced.get(5));
+      assertEquals("last", replaced.get(99));
+      assertThrows(UnsupportedOperationException.class, () -> original.add("x"));
+      assertThrows(IndexOutOfBoundsException.class, () -> original.get(100));
+   }
+
+   @Test
+   void survives_serialization() throws Exception {
+      PersistentVector<String> vector = PersistentVector.of("Juan", "Andrea", "Patricia");
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+         out.writeObject(vector);
+      }
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+         Object read = in.readObject();
+         assertInstanceOf(PersistentVector.class, read);
+         assertEquals(vector, read);
+      }
+   }
+}
@@ -0,0 +1,83 @@
+package com.technologyos.functional.utils.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelLineReaderTest {
+
+   private static ReadableByteChannel channelOf(String text) {
+      return Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+   }
+
+   private static List<String> bufferedReaderLines(String text) {
+      return new BufferedReader(new InputStreamReader(
+         new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8))
+         .lines().collect(Collectors.toList());
+   }
+
+   @Test
+   void reads_the_same_lines_as_buffered_reader() {
+      String text = "Hola\r\n\nCanción ñandú €\rúltima\r\r\nsin salto";
+
+      // Tiny buffers force lines, \r\n pairs and multi-byte characters across reads
+      for (int bufferSize = 1; bufferSize <= 8; bufferSize++) {
+         try (var batches = ChannelLineReader.batches(channelOf(text), StandardCharsets.UTF_8, bufferSize, 2)) {
+            List<String> lines = batches.flatMap(List::stream).collect(Collectors.toList());
+            assertEquals(bufferedReaderLines(text), lines, "buffer size " + bufferSize);
+         }
+      }
+   }
+
+   @Test
+   void emits_batches_of_the_requested_size() {
+      String text = IntStream.range(0, 10).mapToObj(i -> "line " + i + "\n").collect(Collectors.joining());
+
+      List<List<String>> batches = ChannelLineReader.batches(channelOf(text), StandardCharsets.UTF_8, 16, 4)
+         .collect(Collectors.toList());
+
+      assertEquals(List.of(4, 4, 2), batches.stream().map(List::size).collect(Collectors.toList()));
+      assertEquals("line 9", batches.get(2).get(1));
+   }
+
+   @Test
+   void parallel_processing_keeps_every_line() {
+      String text = IntStream.range(0, 100_000).mapToObj(i -> i + "\n").collect(Collectors.joining());
+
+      long sum = ChannelLineReader.lines(channelOf(text)).parallel().mapToLong(Long::parseLong).sum();
+
+      assertEquals(99_999L * 100_000 / 2, sum);
+      assertEquals(0, ChannelLineReader.batches(channelOf("")).count());
+   }
+
+   @Test
+   void closing_the_stdin_stream_leaves_stdin_open() {
+      AtomicBoolean closed = new AtomicBoolean();
+      InputStream stdin = System.in;
+      System.setIn(new ByteArrayInputStream("a\nb\n".getBytes(StandardCharsets.UTF_8)) {
+         @Override
+         public void close() {
+            closed.set(true);
+         }
+      });
+      try (var batches = ChannelLineReader.stdinBatches()) {
+         assertEquals(List.of(List.of("a", "b")), batches.collect(Collectors.toList()));
+      } finally {
+         System.setIn(stdin);
+      }
+
+      assertFalse(closed.get());
+   }
+}
@@ -0,0 +1,57 @@
+package com.technologyos.functional.utils.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLineReaderTest {
+
+   @TempDir
+   Path tempDir;
+
+   @Test
+   void read_lines_with_content() throws IOException {
+      Path file = Files.writeString(tempDir.resolve("lines.txt"),
+         "Juan\n\n   \nAndrea\r\n\t\r\nPatricia\rCarmen  ", StandardCharsets.UTF_8);
+
+      assertIterableEquals(Arrays.asList("Juan", "Andrea", "Patricia", "Carmen  "),
+         MappedLineReader.readLinesWithContent(file));
+   }
+
+   @Test
+   void chunks_keep_lines_whole_and_in_order() throws IOException {
+      List<String> expected = new ArrayList<>();
+      StringBuilder content = new StringBuilder();
+      for (int i = 0; i < 500; i++) {
+         String line = "línea " + i;
+         expected.add(line);
+         content.append(line).append(i % 3 == 0 ? "\r\n" : "\n").append(i % 5 == 0 ? " \n" : "");
+      }
+      Path file = Files.writeString(tempDir.resolve("big.txt"), content, StandardCharsets.UTF_8);
+
+      // A tiny chunk size forces boundaries in the middle of lines and of \r\n pairs
+      assertIterableEquals(expected,
+         MappedLineReader.readLinesWithContent(file, StandardCharsets.UTF_8, 7, ForkJoinPool.commonPool()));
+   }
+
+   @Test
+   void empty_file() throws IOException {
+      Path file = Files.createFile(tempDir.resolve("empty.txt"));
+      assertTrue(MappedLineReader.readLinesWithContent(file).isEmpty());
+   }
+
+   @Test
+   void missing_file() {
+      assertThrows(IOException.class, () -> MappedLineReader.readLinesWithContent(tempDir.resolve("missing.txt")));
+   }
+}
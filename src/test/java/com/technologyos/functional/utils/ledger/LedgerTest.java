@@ -0,0 +1,123 @@
+package com.technologyos.functional.utils.ledger;
+
+import com.technologyos.functional.exceptions.BusinessException;
+import com.technologyos.functional.models.Account;
+import com.technologyos.functional.models.Money;
+import com.technologyos.functional.utils.builder.BuilderWithChaining;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerTest {
+
+   private static Account account(String id, double balance) {
+      return new BuilderWithChaining(id).withFirstName("First " + id).withLastName("Last").withBalance(balance).buildAccount();
+   }
+
+   @Test
+   void postings_and_read_views() {
+      Ledger ledger = new Ledger(4);
+      int alice = ledger.open(account("alice", 100.25));
+      ledger.open(account("bob", 0));
+
+      ledger.post(alice, -25);
+      ledger.post("bob", Money.of("10.5"));
+      ledger.transfer("alice", "bob", Money.of("50"));
+
+      assertEquals(Money.of("50.00"), ledger.balance("alice"));
+      Account bob = ledger.account("bob");
+      assertEquals("First bob", bob.getFirstName());
+      assertEquals(60.5, bob.getCurrentBalance());
+   }
+
+   @Test
+   void debits_can_not_leave_a_negative_balance() {
+      Ledger ledger = new Ledger(2);
+      ledger.open(account("alice", 10));
+      ledger.open(account("bob", 0));
+
+      BusinessException exception = assertThrows(BusinessException.class,
+         () -> ledger.transfer("alice", "bob", Money.of("10.01")));
+
+      assertEquals("INSUFFICIENT_FUNDS", exception.getCode());
+      assertEquals(Money.of("10.00"), ledger.balance("alice"));
+      assertEquals(Money.of("0.00"), ledger.balance("bob"));
+      assertThrows(BusinessException.class, () -> ledger.balance("carol"));
+      assertThrows(IllegalArgumentException.class, () -> ledger.open(account("bob", 1)));
+   }
+
+   @Test
+   void a_batch_applies_every_posting_or_none() {
+      Ledger ledger = new Ledger(3);
+      int a = ledger.open(account("a", 5));
+      int b = ledger.open(account("b", 5));
+      int c = ledger.open(account("c", 5));
+      Ledger.Batch batch = new Ledger.Batch();
+
+      // c can pay 6 because it receives 2 in the same batch
+      ledger.apply(batch.transfer(a, c, 200).transfer(c, b, 600).transfer(b, a, 100));
+      assertEquals(List.of(400L, 1000L, 100L), List.of(ledger.balance(a), ledger.balance(b), ledger.balance(c)));
+
+      batch.clear().transfer(b, a, 1000).transfer(c, a, 101);
+      assertThrows(BusinessException.class, () -> ledger.apply(batch));
+      assertEquals(List.of(400L, 1000L, 100L), List.of(ledger.balance(a), ledger.balance(b), ledger.balance(c)));
+   }
+
+   @Test
+   void concurrent_transfers_keep_every_snapshot_balanced() throws Exception {
+      int accounts = 32;
+      Ledger ledger = new Ledger(accounts);
+      for (int i = 0; i < accounts; i++) {
+         ledger.open(account("account-" + i, 1_000));
+      }
+      Money total = ledger.snapshot().total();
+      AtomicBoolean running = new AtomicBoolean(true);
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         List<Future<?>> writers = new ArrayList<>();
+         for (int thread = 0; thread < 3; thread++) {
+            writers.add(executor.submit(() -> {
+               Ledger.Batch batch = new Ledger.Batch();
+               ThreadLocalRandom random = ThreadLocalRandom.current();
+               for (int i = 0; i < 50_000; i++) {
+                  batch.clear()
+                     .transfer(random.nextInt(accounts), random.nextInt(accounts), 1 + random.nextInt(100))
+                     .transfer(random.nextInt(accounts), random.nextInt(accounts), 1 + random.nextInt(100));
+                  try {
+                     ledger.apply(batch);
+                  } catch (BusinessException insufficientFunds) {
+                     // expected now and then, the batch is simply not applied
+                  }
+               }
+            }));
+         }
+         Future<Integer> reader = executor.submit(() -> {
+            int snapshots = 0;
+            while (running.get()) {
+               assertEquals(total, ledger.snapshot().total());
+               snapshots++;
+            }
+            return snapshots;
+         });
+         for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+         }
+         running.set(false);
+         assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+      } finally {
+         executor.shutdownNow();
+      }
+      LedgerSnapshot snapshot = ledger.snapshot();
+      assertEquals(total, snapshot.total());
+      assertTrue(snapshot.accounts().allMatch(account -> account.getCurrentBalance() >= 0));
+   }
+}
@@ -0,0 +1,84 @@
+package com.technologyos.functional.utils.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyLoggerTest {
+   private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+   private AsyncAppender appender;
+
+   @BeforeEach
+   void setUp() {
+      appender = new AsyncAppender(output, 1 << 16, 100);
+      LazyLogger.setAppender(appender);
+   }
+
+   @AfterEach
+   void tearDown() {
+      LazyLogger.setAppender(new AsyncAppender(System.out));
+   }
+
+   private List<String> writtenLines() {
+      appender.close();
+      return output.toString(StandardCharsets.UTF_8).lines().toList();
+   }
+
+   @Test
+   void disabled_messages_are_never_built() {
+      LazyLogger logger = LazyLogger.getLogger(LazyLoggerTest.class);
+      logger.setLevel(Level.WARN);
+      AtomicInteger built = new AtomicInteger();
+
+      logger.info(() -> "expensive " + built.incrementAndGet());
+      logger.warn(() -> "warning " + built.incrementAndGet());
+
+      assertEquals(1, built.get());
+      List<String> lines = writtenLines();
+      assertEquals(1, lines.size());
+      assertTrue(lines.get(0).contains("WARN [main] LazyLoggerTest - warning 1"), lines.get(0));
+   }
+
+   @Test
+   void every_message_from_every_thread_is_written() {
+      LazyLogger logger = LazyLogger.getLogger("concurrent");
+
+      IntStream.range(0, 40_000).parallel().forEach(i -> logger.info(() -> "message " + i));
+
+      List<String> lines = writtenLines();
+      assertEquals(40_000, lines.size());
+      assertEquals(40_000, lines.stream().map(line -> line.substring(line.lastIndexOf(' ') + 1)).distinct().count());
+      assertEquals(0, appender.dropped());
+   }
+
+   @Test
+   void errors_include_the_stack_trace() {
+      LazyLogger.getLogger("errors").error(() -> "failed", new IllegalStateException("boom"));
+
+      List<String> lines = writtenLines();
+      assertTrue(lines.get(0).endsWith("errors - failed"));
+      assertEquals("java.lang.IllegalStateException: boom", lines.get(1));
+   }
+
+   @Test
+   void a_full_buffer_drops_instead_of_blocking() {
+      RingBuffer<Integer> buffer = new RingBuffer<>(4);
+      for (int i = 0; i < 4; i++) {
+         assertTrue(buffer.offer(i));
+      }
+      assertFalse(buffer.offer(4));
+
+      StringBuilder drained = new StringBuilder();
+      assertEquals(4, buffer.drainTo(drained::append, 10));
+      assertEquals("0123", drained.toString());
+      assertTrue(buffer.offer(5));
+   }
+}
@@ -0,0 +1,88 @@
+package com.technologyos.functional.utils.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedStreamTest {
+
+   @Test
+   void records_counts_and_selectivity_per_stage() {
+      PipelineMetrics metrics = new PipelineMetrics(1);
+
+      List<String> result = InstrumentedStream.of(metrics, "numbers", IntStream.range(0, 100).boxed())
+         .filter("even", i -> i % 2 == 0)
+         .map("to-text", String::valueOf)
+         .filter("two-digits", text -> text.length() == 2)
+         .stream()
+         .toList();
+
+      assertEquals(45, result.size());
+      List<StageStats> stages = metrics.snapshot("numbers");
+      assertEquals(List.of("even", "to-text", "two-digits"), stages.stream().map(StageStats::stage).toList());
+
+      StageStats even = stages.get(0);
+      assertEquals(100, even.in());
+      assertEquals(50, even.out());
+      assertEquals(0.5, even.selectivity());
+      assertEquals(100, even.sampled());
+
+      assertEquals(50, stages.get(1).in());
+      assertEquals(1.0, stages.get(1).selectivity());
+      assertEquals(45, stages.get(2).out());
+   }
+
+   @Test
+   void counts_parallel_pipelines_and_accumulates_across_runs() {
+      PipelineMetrics metrics = new PipelineMetrics(PipelineMetrics.DEFAULT_SAMPLE_RATE);
+
+      for (int run = 0; run < 2; run++) {
+         InstrumentedStream.of(metrics, "parallel", IntStream.range(0, 100_000).boxed().parallel())
+            .filter("multiple-of-ten", i -> i % 10 == 0)
+            .stream()
+            .count();
+      }
+
+      StageStats stats = metrics.snapshot("parallel").get(0);
+      assertEquals(200_000, stats.in());
+      assertEquals(20_000, stats.out());
+      assertTrue(stats.sampled() > 0 && stats.sampled() < stats.in());
+   }
+
+   @Test
+   void seen_stages_are_announced_to_listeners() {
+      PipelineMetrics metrics = new PipelineMetrics(1);
+      metrics.stage("existing", "stage");
+
+      List<String> seen = new CopyOnWriteArrayList<>();
+      metrics.onStage(stage -> seen.add(stage.pipeline() + "/" + stage.stage()));
+      metrics.stage("new", "stage");
+      metrics.stage("new", "stage");
+
+      assertEquals(List.of("existing/stage", "new/stage"), seen);
+      assertThrows(IllegalArgumentException.class, () -> new PipelineMetrics(3));
+   }
+
+   @Test
+   void reset_zeroes_the_counters_of_the_same_stages() {
+      PipelineMetrics metrics = new PipelineMetrics(1);
+      StageMetrics even = metrics.stage("numbers", "even");
+      even.recordIn();
+      even.recordOut();
+      List<StageMetrics> seen = new CopyOnWriteArrayList<>();
+      metrics.onStage(seen::add);
+
+      metrics.reset();
+      even.recordIn();
+
+      // A listener that registered the stage (a meter) keeps reading the live counters
+      assertSame(even, metrics.stage("numbers", "even"));
+      assertEquals(List.of(even), seen);
+      assertEquals(1, even.in());
+      assertEquals(0, even.out());
+   }
+}
@@ -0,0 +1,82 @@
+package com.technologyos.functional.utils.money;
+
+import com.technologyos.functional.models.Employee;
+import com.technologyos.functional.models.Money;
+import com.technologyos.functional.models.Product;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyCollectorsTest {
+
+   private final List<Employee> employees = List.of(
+      new Employee("1", "Ana", new BigDecimal("1500.50")),
+      new Employee("2", "Luis", new BigDecimal("2000")),
+      new Employee("3", "Eva", new BigDecimal("999.995")));
+
+   @Test
+   void sum_average_min_and_max() {
+      assertEquals(Money.of("4500.495"), employees.stream().collect(MoneyCollectors.summing(Employee::getSalary)));
+      assertEquals(Money.of("1500.165"), employees.stream().collect(MoneyCollectors.averaging(Employee::getSalary)));
+      assertEquals(Optional.of(Money.of("999.995")), employees.stream().collect(MoneyCollectors.minimum(Employee::getSalary)));
+      assertEquals(Optional.of(Money.of("2000")), employees.stream().collect(MoneyCollectors.maximum(Employee::getSalary)));
+   }
+
+   @Test
+   void empty_stream() {
+      MoneyStatistics statistics = List.<Employee>of().stream().collect(MoneyCollectors.summarizing(Employee::getSalary));
+
+      assertEquals(new MoneyStatistics(0, Money.ZERO, Money.ZERO, null, null), statistics);
+   }
+
+   @Test
+   void parallel_results_match_big_decimal_reduce() {
+      List<Product> products = LongStream.range(0, 100_000)
+         .mapToObj(id -> new Product(id, "product-" + id, BigDecimal.valueOf(id * 7 + 3, id % 3 == 0 ? 2 : 1)))
+         .toList();
+      BigDecimal expected = products.stream()
+         .map(product -> product.getPrice().toBigDecimal())
+         .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+      MoneyStatistics statistics = products.parallelStream().collect(MoneyCollectors.summarizing(Product::getPrice));
+
+      assertEquals(0, expected.compareTo(statistics.sum().toBigDecimal()));
+      assertEquals(100_000, statistics.count());
+      assertEquals(Money.of("0.03"), statistics.min());
+      assertEquals(Money.of("69998.9"), statistics.max());
+   }
+
+   @Test
+   void grouping_sum() {
+      Map<Boolean, Money> byRange = employees.parallelStream()
+         .collect(MoneyCollectors.groupingSum(employee -> employee.getSalary().compareTo(Money.of(1000, 0)) >= 0,
+            Employee::getSalary));
+
+      assertEquals(Map.of(true, Money.of("3500.50"), false, Money.of("999.995")), byRange);
+   }
+
+   @Test
+   void overflow_is_detected() {
+      List<Money> amounts = List.of(Money.of(Long.MAX_VALUE, 0), Money.of(1, 0));
+
+      assertThrows(ArithmeticException.class, () -> amounts.stream().collect(MoneyCollectors.summing(amount -> amount)));
+   }
+
+   @Test
+   void builder_and_json_use_big_decimal() {
+      JsonMapper mapper = JsonMapper.builder().build();
+      Product product = Product.builder().productId(1L).name("pen").price(new BigDecimal("1.25")).build();
+
+      assertEquals(Money.of(125, 2), product.getPrice());
+      String json = mapper.writeValueAsString(product);
+      assertEquals("{\"name\":\"pen\",\"price\":1.25,\"productId\":1}", json);
+      assertEquals(product, mapper.readValue(json, Product.class));
+   }
+}
@@ -0,0 +1,36 @@
+package com.technologyos.functional.utils.optional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionalsTest {
+
+   @Test
+   void filter_map_or_else_matches_the_optional_chain() {
+      for (String name : new String[]{"optional chaining", "", null}) {
+         String expected = Optional.ofNullable(name)
+            .filter(n -> !n.isEmpty())
+            .map(String::toUpperCase)
+            .map(n -> n + "!")
+            .orElse("DEFAULT");
+
+         assertEquals(expected, Optionals.filterMapOrElse(Optional.ofNullable(name),
+            n -> !n.isEmpty(), n -> n.toUpperCase() + "!", "DEFAULT"));
+         assertEquals(expected, Optionals.nullableFilterMapOrElse(name,
+            n -> !n.isEmpty(), n -> n.toUpperCase() + "!", "DEFAULT"));
+      }
+   }
+
+   @Test
+   void null_results_fall_back_like_optional_map() {
+      assertEquals("other", Optionals.nullableMapOrElse("value", v -> null, "other"));
+      assertEquals("other", Optionals.nullableMapOrElse((String) null, String::trim, "other"));
+      assertEquals("5", Optionals.filterMapOrElse(OptionalInt.of(5), i -> i > 0, String::valueOf, "none"));
+      assertEquals("none", Optionals.filterMapOrElse(OptionalDouble.empty(), d -> true, String::valueOf, "none"));
+   }
+}
@@ -0,0 +1,38 @@
+package com.technologyos.functional.utils.optional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedOptionalTest {
+
+   @Test
+   void round_trips_every_int_and_the_narrower_integral_types() {
+      assertEquals(-1, PackedOptional.getInt(PackedOptional.ofInt(-1)));
+      assertEquals(Integer.MIN_VALUE, PackedOptional.getInt(PackedOptional.ofInt(Integer.MIN_VALUE)));
+      assertEquals(Integer.MAX_VALUE, PackedOptional.getInt(PackedOptional.ofInt(Integer.MAX_VALUE)));
+      assertEquals('ñ', (char) PackedOptional.getInt(PackedOptional.ofInt('ñ')));
+      assertEquals((short) -7, (short) PackedOptional.getInt(PackedOptional.ofInt((short) -7)));
+      assertEquals((byte) -128, (byte) PackedOptional.getInt(PackedOptional.ofInt((byte) -128)));
+      assertTrue(PackedOptional.isPresent(PackedOptional.ofInt(0)));
+   }
+
+   @Test
+   void empty_behaves_like_an_empty_optional() {
+      assertTrue(PackedOptional.isEmpty(PackedOptional.EMPTY));
+      assertEquals(7, PackedOptional.intOrElse(PackedOptional.EMPTY, 7));
+      assertThrows(NoSuchElementException.class, () -> PackedOptional.getInt(PackedOptional.EMPTY));
+   }
+
+   @Test
+   void filter_and_map_without_unpacking() {
+      long age = PackedOptional.ofInt(24);
+
+      assertEquals(25, PackedOptional.filterMapOrElse(age, a -> a >= 18, a -> a + 1, -1));
+      assertEquals(-1, PackedOptional.filterMapOrElse(PackedOptional.ofInt(12), a -> a >= 18, a -> a + 1, -1));
+      assertEquals(48, PackedOptional.intOrElse(PackedOptional.mapInt(age, a -> a * 2), 0));
+      assertTrue(PackedOptional.isEmpty(PackedOptional.filterInt(age, a -> a > 30)));
+   }
+}
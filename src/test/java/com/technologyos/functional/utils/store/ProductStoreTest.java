@@ -0,0 +1,120 @@
+package com.technologyos.functional.utils.store;
+
+import com.technologyos.functional.models.Money;
+import com.technologyos.functional.models.Product;
+import com.technologyos.functional.utils.money.MoneyCollectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductStoreTest {
+
+   @TempDir
+   Path directory;
+
+   private static Product product(long id) {
+      return new Product(id, "product-" + id + "-ñ", BigDecimal.valueOf(id * 10 + 5, 2));
+   }
+
+   @Test
+   void put_and_get_by_id() throws IOException {
+      try (ProductStore store = ProductStore.open(directory)) {
+         store.put(product(7));
+         store.put(new Product(-3L, null, (Money) null));
+
+         assertEquals(product(7), store.getById(7L));
+         assertEquals(new Product(-3L, null, (Money) null), store.getById(-3L));
+         assertNull(store.getById(8L));
+         assertEquals(2, store.size());
+      }
+   }
+
+   @Test
+   void put_replaces_the_product_with_the_same_id() throws IOException {
+      try (ProductStore store = ProductStore.open(directory)) {
+         store.put(product(1));
+         store.put(new Product(1L, "renamed", new BigDecimal("9.999")));
+
+         assertEquals(1, store.size());
+         assertEquals(new Product(1L, "renamed", new BigDecimal("9.999")), store.getById(1L));
+      }
+   }
+
+   @Test
+   void grows_and_survives_reopening() throws IOException {
+      List<Product> products = LongStream.range(0, 10_000).map(i -> i * 31).mapToObj(ProductStoreTest::product).toList();
+      try (ProductStore store = ProductStore.open(directory)) {
+         store.putAll(products);
+         store.force();
+      }
+
+      try (ProductStore store = ProductStore.open(directory)) {
+         assertEquals(10_000, store.size());
+         assertEquals(product(31 * 9_999), store.getById(31L * 9_999));
+         assertFalse(store.contains(32));
+         assertEquals(products, store.stream().toList());
+      }
+   }
+
+   @Test
+   void stream_and_column_scan_agree() throws IOException {
+      try (ProductStore store = ProductStore.open(directory)) {
+         LongStream.range(0, 5_000).mapToObj(ProductStoreTest::product).forEach(store::put);
+         store.put(new Product(99_999L, "no price", (Money) null));
+         store.put(new Product(100_000L, "other scale", new BigDecimal("0.001")));
+
+         Money streamed = store.stream().parallel()
+            .filter(product -> product.getPrice() != null)
+            .collect(MoneyCollectors.summing(Product::getPrice));
+
+         assertEquals(streamed, store.totalPrice());
+         assertEquals(Money.of("1250000.001"), store.totalPrice());
+      }
+   }
+
+   @Test
+   void a_put_that_died_before_the_count_is_forgotten() throws IOException {
+      try (ProductStore store = ProductStore.open(directory)) {
+         store.put(product(1));
+         store.put(product(2));
+      }
+      // The process died after indexing id 2 but before counting its row
+      try (FileChannel meta = FileChannel.open(directory.resolve("meta.bin"), StandardOpenOption.WRITE)) {
+         meta.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 1), 8);
+      }
+
+      try (ProductStore store = ProductStore.open(directory)) {
+         assertEquals(1, store.size());
+         assertFalse(store.contains(2));
+
+         // id 3 takes the row the leftover entry of id 2 points to
+         store.put(product(3));
+         assertNull(store.getById(2L));
+         assertFalse(store.contains(2));
+
+         store.put(new Product(2L, "again", new BigDecimal("2.00")));
+         assertEquals(product(3), store.getById(3L));
+         assertEquals(new Product(2L, "again", new BigDecimal("2.00")), store.getById(2L));
+         assertEquals(3, store.size());
+      }
+   }
+
+   @Test
+   void rejects_a_directory_with_other_data() throws IOException {
+      Files.write(directory.resolve("meta.bin"), new byte[] {1, 2, 3, 4});
+
+      assertThrows(IOException.class, () -> ProductStore.open(directory));
+   }
+}
@@ -0,0 +1,52 @@
+package com.technologyos.functional.utils.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequencesTest {
+
+   @Test
+   void ints_match_iterate() {
+      List<Integer> expected = Stream.iterate(5, x -> x + 3).limit(1_000).toList();
+
+      assertEquals(expected, Sequences.ints(5, 3, 1_000).boxed().toList());
+      assertEquals(expected, Sequences.ints(5, 3, 1_000).parallel().boxed().toList());
+      assertEquals(IntStream.range(-10, 10).boxed().toList(), Sequences.counting(-10, 20).boxed().toList());
+   }
+
+   @Test
+   void longs_in_parallel_give_the_same_sum() {
+      long expected = LongStream.iterate(7, x -> x - 2).limit(100_000).sum();
+
+      assertEquals(expected, Sequences.longs(7, -2, 100_000).parallel().sum());
+      assertEquals(100_000, Sequences.longs(7, -2, 100_000).parallel().count());
+   }
+
+   @Test
+   void iterate_uses_the_closed_form() {
+      List<Long> expected = Stream.iterate(1L, x -> x * 2).limit(40).toList();
+
+      assertEquals(expected, Sequences.iterate(40, i -> 1L << i).parallel().collect(Collectors.toList()));
+   }
+
+   @Test
+   void spliterators_are_sized_and_split_in_halves() {
+      Spliterator.OfInt spliterator = Sequences.ints(0, 1, 11).spliterator();
+
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+      Spliterator.OfInt prefix = spliterator.trySplit();
+      assertNotNull(prefix);
+      assertEquals(5, prefix.getExactSizeIfKnown());
+      assertEquals(6, spliterator.getExactSizeIfKnown());
+      assertEquals(0, Sequences.ints(0, 1, 0).count());
+      assertThrows(IllegalArgumentException.class, () -> Sequences.counting(0, -1));
+   }
+}
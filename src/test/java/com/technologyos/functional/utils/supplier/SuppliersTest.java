@@ -0,0 +1,87 @@
+package com.technologyos.functional.utils.supplier;
+
+import com.technologyos.functional.utils.pool.PoolExhaustedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuppliersTest {
+
+   @Test
+   void memoize_computes_once_across_threads() {
+      AtomicInteger calls = new AtomicInteger();
+      Supplier<Object> supplier = Suppliers.memoize(() -> {
+         calls.incrementAndGet();
+         return new Object();
+      });
+
+      long distinct = IntStream.range(0, 10_000).parallel()
+         .mapToObj(i -> supplier.get())
+         .distinct()
+         .count();
+
+      assertEquals(1, distinct);
+      assertEquals(1, calls.get());
+      assertSame(supplier, Suppliers.memoize(supplier));
+   }
+
+   @Test
+   void refreshing_serves_the_stale_value_while_refreshing() throws Exception {
+      AtomicInteger version = new AtomicInteger();
+      Runnable[] pending = new Runnable[1];
+      Executor manual = task -> pending[0] = task;
+
+      RefreshingSupplier<Integer> supplier =
+         Suppliers.refreshing(version::incrementAndGet, Duration.ofMillis(1), manual);
+
+      assertEquals(1, supplier.get());
+      Thread.sleep(5);
+      assertEquals(1, supplier.get()); // expired: schedules a refresh but answers right away
+      assertNotNull(pending[0]);
+
+      pending[0].run();
+      assertEquals(2, supplier.get());
+      assertEquals(1, supplier.refreshes());
+   }
+
+   @Test
+   void refreshing_keeps_the_value_when_a_refresh_fails() throws Exception {
+      AtomicInteger calls = new AtomicInteger();
+      RefreshingSupplier<String> supplier = Suppliers.refreshing(() -> {
+         if (calls.incrementAndGet() > 1) {
+            throw new IllegalStateException("source down");
+         }
+         return "first";
+      }, Duration.ofMillis(1), Runnable::run);
+
+      assertEquals("first", supplier.get());
+      Thread.sleep(5);
+      assertEquals("first", supplier.get());
+      assertEquals("first", supplier.get());
+      assertEquals(1, supplier.failures());
+   }
+
+   @Test
+   void pooled_reuses_a_bounded_number_of_objects() {
+      AtomicInteger created = new AtomicInteger();
+      try (PooledSupplier<StringBuilder> pooled =
+              Suppliers.pooled(() -> {
+                 created.incrementAndGet();
+                 return new StringBuilder();
+              }, 1, Duration.ofMillis(10))) {
+
+         try (PooledSupplier.Lease<StringBuilder> lease = pooled.get()) {
+            lease.get().append("x");
+            assertThrows(PoolExhaustedException.class, pooled::get);
+         }
+         assertEquals("x", pooled.withObject(StringBuilder::toString));
+         assertEquals(1, created.get());
+      }
+   }
+}
@@ -0,0 +1,59 @@
+package com.technologyos.functional.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PipelineControllerTest {
+
+   @LocalServerPort
+   private int port;
+
+   private final HttpClient client = HttpClient.newHttpClient();
+
+   private HttpResponse<Stream<String>> get(String path) throws Exception {
+      HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+      return client.send(request, HttpResponse.BodyHandlers.ofLines());
+   }
+
+   @Test
+   void adults_are_streamed_one_json_per_line() throws Exception {
+      HttpResponse<Stream<String>> response = get("/users/adults");
+
+      assertEquals(200, response.statusCode());
+      assertEquals("application/x-ndjson", response.headers().firstValue("Content-Type").orElseThrow());
+      assertEquals(List.of(
+         "{\"name\":\"Jose\",\"age\":20}",
+         "{\"name\":\"Taylor\",\"age\":19}",
+         "{\"name\":\"Carol\",\"age\":25}"), response.body().toList());
+   }
+
+   @Test
+   void courses_are_filtered_by_level_name_or_label() throws Exception {
+      List<String> expected = List.of(
+         "{\"name\":\"Eventloop\",\"level\":\"AVANZADO\"}",
+         "{\"name\":\"Gradle\",\"level\":\"AVANZADO\"}");
+
+      assertEquals(expected, get("/courses?level=Avanzado").body().toList());
+      assertEquals(expected, get("/courses?level=AVANZADO").body().toList());
+      assertEquals(7, get("/courses").body().count());
+   }
+
+   @Test
+   void unknown_level_is_a_bad_request() throws Exception {
+      HttpResponse<Stream<String>> response = get("/courses?level=Experto");
+
+      assertEquals(400, response.statusCode());
+      assertTrue(response.body().findFirst().orElseThrow().contains("INVALID_COURSE_LEVEL"));
+   }
+}